@@ -15,11 +15,69 @@
  ******************************************************************************/
 package jakarta.persistence;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Interface used to interact with the second-level cache.
  * If a cache is not in use, the methods of this interface have
  * no effect, except for <code>contains</code>, which returns false.
  *
+ * <p> In addition to entity data, the cache may hold query results.
+ * The results of a query are cached if the query is created from a
+ * named query whose <code>cacheable</code> element is true, or if the
+ * <code>jakarta.persistence.cache.queryResults</code> hint is set to
+ * <code>true</code> on the query, and the second-level cache is in use.
+ * Results are cached per query and bound parameter values, and are
+ * stored as the primary keys of the resulting entities, which are
+ * resolved through the entity regions of the cache; scalar results
+ * are stored as values.  The
+ * <code>jakarta.persistence.cache.retrieveMode</code> and
+ * <code>jakarta.persistence.cache.storeMode</code> hints apply to
+ * cached query results as they do to cached entities.
+ * Since the entity types referenced by a native query are not known
+ * to the persistence provider, the
+ * <code>jakarta.persistence.cache.queryResults</code> hint is ignored
+ * for native queries, unless the referenced entity types are made
+ * known to the persistence provider by vendor-specific means.
+ *
+ * <p> Cached query results never reflect a state of the database
+ * older than the last committed change to the entities they
+ * reference in their roots, joins or subqueries:
+ * <ul>
+ * <li> A query references an entity type if its roots, joins or
+ * subqueries refer to that entity type, to one of its superclasses
+ * or to one of its subclasses, so that a change to an instance of
+ * <code>Dog</code> affects queries rooted at <code>Animal</code>,
+ * and a bulk update of <code>Animal</code> affects queries rooted
+ * at <code>Dog</code>.  Pending changes, in-flight changes and
+ * invalidation timestamps, as described below, apply to the entire
+ * inheritance hierarchy of the changed entity type.
+ * <li> An entity type has pending changes in a persistence context
+ * from the time an instance of it is created, updated or removed
+ * in that persistence context, or a bulk update, delete or insert
+ * operation on it is executed, until the transaction completes.
+ * Cached results are neither read nor stored for a query that
+ * references an entity type with pending changes in the persistence
+ * context in which the query is executed; the query is executed
+ * against the database.
+ * <li> An entity type has in-flight changes from the time pending
+ * changes to it are flushed to the database until the transaction
+ * completes, whereupon the cache records the completion time as
+ * the invalidation timestamp of the entity type.  The cached
+ * results of a query that references the entity type are then
+ * evicted.
+ * <li> The results of a query are stored only if none of the entity
+ * types it references had in-flight changes when the query was
+ * executed, and none of their invalidation timestamps is later
+ * than the time at which the query was executed, so that results
+ * read concurrently with a commit are not stored after the
+ * eviction.  Likewise, cached results are read only if they were
+ * stored after the invalidation timestamps of all entity types they
+ * reference, and none of these types has in-flight changes.
+ * </ul>
+ *
  * @since Java Persistence 2.0
  */
 public interface Cache {
@@ -32,6 +90,30 @@ public interface Cache {
      */
     public boolean contains(Class cls, Object primaryKey);
 
+    /**
+     * Whether the cache contains data for each of the given entities.
+     * By default this method invokes <code>contains</code> for each
+     * primary key, however persistence provider may choose to 
+     * override this method to perform the lookups in bulk.
+     * @param cls  entity class
+     * @param primaryKeys  primary keys
+     * @return bit set in which the bit at the position of each
+     *         primary key in the list is set if the entity is in
+     *         the cache
+     * @since Java Persistence 3.0
+     */
+    public default BitSet containsEach(Class<?> cls, List<?> primaryKeys) {
+        BitSet result = new BitSet(primaryKeys.size());
+        int i = 0;
+        for (Object primaryKey : primaryKeys) {
+            if (contains(cls, primaryKey)) {
+                result.set(i);
+            }
+            i++;
+        }
+        return result;
+    }
+
     /**
      * Remove the data for the given entity from the cache.
      * @param cls  entity class
@@ -46,11 +128,87 @@ public interface Cache {
      */
     public void evict(Class cls);
 
+    /**
+     * Remove the data for the given entities from the cache.
+     * By default this method invokes <code>evict</code> for each
+     * primary key, however persistence provider may choose to 
+     * override this method to evict the entities in bulk.
+     * @param cls  entity class
+     * @param primaryKeys  primary keys
+     * @since Java Persistence 3.0
+     */
+    public default void evictAll(Class<?> cls, Collection<?> primaryKeys) {
+        for (Object primaryKey : primaryKeys) {
+            evict(cls, primaryKey);
+        }
+    }
+
+    /**
+     * Load the given entities that are not yet in the cache from
+     * the database, in as few round trips as possible, and store
+     * their data in the cache.
+     * The entities are not added to any persistence context.
+     * @param cls  entity class
+     * @param primaryKeys  primary keys
+     * @return the number of entities stored in the cache
+     * @throws IllegalArgumentException if the class is not a 
+     *         cached entity
+     * @since Java Persistence 3.0
+     */
+    public int preload(Class<?> cls, Collection<?> primaryKeys);
+
+    /**
+     * Execute the given query and store the data of the entities
+     * it returns in the cache, so that the cache can be warmed from
+     * a query in a single pass.
+     * Results that are not instances of cached entities are ignored.
+     * @param query  query returning entities
+     * @return the number of entities stored in the cache
+     * @throws IllegalStateException if the query is not a SELECT
+     *         query
+     * @since Java Persistence 3.0
+     */
+    public int preload(TypedQuery<?> query);
+
     /**
      * Clear the cache.
      */
     public void evictAll();
 
+    /**
+     * Remove all cached query results from the cache.
+     * Cached entity data is not affected.
+     * @since Java Persistence 3.0
+     */
+    public void evictQueryResults();
+
+    /**
+     * Return the statistics of the cache, totalled over its regions.
+     * @return cache statistics
+     * @since Java Persistence 3.0
+     */
+    public CacheStatistics getStatistics();
+
+    /**
+     * Return the statistics of the region of the given entity class.
+     * @param cls  entity class
+     * @return region statistics
+     * @throws IllegalArgumentException if the class is not a
+     *         cached entity
+     * @since Java Persistence 3.0
+     */
+    public CacheRegionStatistics getRegionStatistics(Class<?> cls);
+
+    /**
+     * Return the statistics of the region of the named entity.
+     * @param entityName  entity name
+     * @return region statistics
+     * @throws IllegalArgumentException if the name is not the name
+     *         of a cached entity
+     * @since Java Persistence 3.0
+     */
+    public CacheRegionStatistics getRegionStatistics(String entityName);
+
     /**
      * Return an object of the specified type to allow access to the
      * provider-specific API.  If the provider's Cache
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Specifies the size bounds, expiry and eviction policy of the region
+ * of the second-level cache in which the instances of an entity are
+ * cached.  The annotation has no effect for an entity that is not
+ * cached.
+ *
+ * <p> Each element may be overridden by the persistence unit property
+ * <code>jakarta.persistence.cache.region.</code><i>entity-name</i><code>.</code><i>element-name</i>,
+ * for example <code>jakarta.persistence.cache.region.Product.maxEntries</code>,
+ * whose value is a number, or the name of an <code>EvictionPolicy</code>
+ * constant for the <code>evictionPolicy</code> element.  Durations
+ * specified by properties are in the time unit of the annotation, or in
+ * seconds if the annotation is not specified.
+ *
+ * <pre>
+ *    Example:
+ *
+ *    &#064;Entity
+ *    &#064;Cacheable
+ *    &#064;CacheRegion(maxEntries=10000, timeToLive=600, evictionPolicy=EvictionPolicy.W_TINY_LFU)
+ *    public class Country { ... }
+ * </pre>
+ *
+ * <p> The value of the <code>CacheRegion</code> annotation is inherited by
+ * subclasses, whose instances are cached in the region of the
+ * entity on which the annotation is specified.
+ *
+ * @see Cacheable
+ *
+ * @since Java Persistence 3.0
+ */
+@Target( { TYPE })
+@Retention(RUNTIME)
+public @interface CacheRegion {
+
+    /**
+     * (Optional) The maximum number of entries of the region.
+     * Defaults to no limit.
+     */
+    long maxEntries() default 0;
+
+    /**
+     * (Optional) The maximum estimated size of the entries of the
+     * region, in bytes.  Defaults to no limit.
+     */
+    long maxBytes() default 0;
+
+    /**
+     * (Optional) The time after which an entry expires once it has
+     * been stored, in the unit given by <code>timeUnit</code>.
+     * Defaults to no expiry.
+     */
+    long timeToLive() default 0;
+
+    /**
+     * (Optional) The time after which an entry expires once it has
+     * last been read, in the unit given by <code>timeUnit</code>.
+     * Defaults to no expiry.
+     */
+    long maxIdle() default 0;
+
+    /**
+     * (Optional) The time unit of <code>timeToLive</code> and
+     * <code>maxIdle</code>.
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * (Optional) The policy by which entries are evicted when the
+     * region reaches one of its bounds.
+     */
+    EvictionPolicy evictionPolicy() default EvictionPolicy.DEFAULT;
+
+    /**
+     * (Optional) Where the entries of the region are stored.
+     * Defaults to the value of the <code>jakarta.persistence.cache.storage</code>
+     * property of the persistence unit.
+     */
+    CacheStorageMode storage() default CacheStorageMode.UNSPECIFIED;
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence;
+
+/**
+ * Statistics of a region of the second-level cache, that is, of the
+ * cached state of the instances of an entity class.
+ *
+ * <p> This interface follows the rules for MXBean interfaces, so
+ * that region statistics can be published as MXBeans by means of
+ * <code>new StandardMBean(statistics, CacheRegionStatistics.class, true)</code>.
+ * Counts are cumulative since the creation of the entity manager
+ * factory or since the statistics were last cleared.
+ *
+ * @see CacheStatistics
+ * @see Cache#getRegionStatistics(Class)
+ *
+ * @since Java Persistence 3.0
+ */
+public interface CacheRegionStatistics {
+
+    /**
+     * Return the name of the entity whose instances are cached in
+     * the region.
+     * @return entity name
+     */
+    String getEntityName();
+
+    /**
+     * Return the number of lookups that found the entity in the
+     * region.
+     * @return hit count
+     */
+    long getHitCount();
+
+    /**
+     * Return the number of lookups that did not find the entity in
+     * the region.
+     * @return miss count
+     */
+    long getMissCount();
+
+    /**
+     * Return the ratio of hits to lookups, or 0 if there have been
+     * no lookups.
+     * @return hit ratio
+     */
+    double getHitRatio();
+
+    /**
+     * Return the number of entries stored in the region.
+     * @return put count
+     */
+    long getPutCount();
+
+    /**
+     * Return the number of entries removed from the region, whether
+     * by explicit eviction, expiry, or to make room for other entries.
+     * @return eviction count
+     */
+    long getEvictionCount();
+
+    /**
+     * Return the current number of entries of the region.
+     * @return entry count
+     */
+    long getEntryCount();
+
+    /**
+     * Return the estimated amount of memory currently used by the
+     * entries of the region, in bytes, or -1 if the persistence
+     * provider cannot estimate it.  For a region stored off the
+     * heap, this is the amount of memory allocated outside of the
+     * heap.
+     * @return estimated size in bytes
+     */
+    long getSizeInBytes();
+
+    /**
+     * Return where the entries of the region are stored.
+     * @return storage mode, either <code>HEAP</code> or 
+     *         <code>OFF_HEAP</code>
+     */
+    CacheStorageMode getStorageMode();
+
+    /**
+     * Return the number of database loads of entities of the region
+     * that followed a miss.
+     * @return load count
+     */
+    long getLoadCount();
+
+    /**
+     * Return the upper bounds, in nanoseconds and in ascending order,
+     * of the buckets of the histogram of load times.  The last bucket
+     * is unbounded and has no upper bound in the array.
+     * @return bucket upper bounds
+     */
+    long[] getLoadTimeBucketBounds();
+
+    /**
+     * Return the number of loads whose load time fell in each bucket
+     * of the histogram of load times.  The array has one more element
+     * than the array of bucket bounds.
+     * @return load counts per bucket
+     */
+    long[] getLoadTimeBucketCounts();
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence;
+
+import java.util.Set;
+
+/**
+ * Statistics of the second-level cache of an entity manager factory.
+ *
+ * <p> Statistics are collected if the
+ * <code>jakarta.persistence.cache.statistics</code> property of the
+ * persistence unit is set to <code>true</code>; otherwise all counts
+ * are 0.  If in addition the <code>jakarta.persistence.cache.jmx</code>
+ * property is set to <code>true</code>, the persistence provider
+ * registers the statistics of the cache and of each of its regions
+ * with the platform MBean server, under the object names
+ * <code>jakarta.persistence:type=Cache,unit=</code><i>unit-name</i> and
+ * <code>jakarta.persistence:type=CacheRegion,unit=</code><i>unit-name</i><code>,region=</code><i>entity-name</i>.
+ *
+ * <p> This interface and <code>CacheRegionStatistics</code> follow the
+ * rules for MXBean interfaces: their methods have no parameters, or
+ * have parameters and return values of JMX open types.  An
+ * implementation may therefore be registered by means of
+ * <code>new StandardMBean(statistics, CacheStatistics.class, true)</code>.
+ * The statistics of the individual regions are obtained by means of
+ * the <code>getRegionStatistics</code> methods of <code>Cache</code>,
+ * and are registered as MXBeans of their own.
+ *
+ * @see Cache#getStatistics()
+ * @see Cache#getRegionStatistics(Class)
+ *
+ * @since Java Persistence 3.0
+ */
+public interface CacheStatistics {
+
+    /**
+     * Return whether statistics are being collected.
+     * @return boolean indicating whether statistics are collected
+     */
+    boolean isEnabled();
+
+    /**
+     * Return the names of the entities that have a cache region.
+     * @return entity names
+     */
+    Set<String> getRegionNames();
+
+    /**
+     * Return the number of lookups, over all regions, that found
+     * the entity in the cache.
+     * @return hit count
+     */
+    long getHitCount();
+
+    /**
+     * Return the number of lookups, over all regions, that did not
+     * find the entity in the cache.
+     * @return miss count
+     */
+    long getMissCount();
+
+    /**
+     * Return the number of entries stored, over all regions.
+     * @return put count
+     */
+    long getPutCount();
+
+    /**
+     * Return the number of entries removed, over all regions.
+     * @return eviction count
+     */
+    long getEvictionCount();
+
+    /**
+     * Reset all counts and histograms to 0.  Entry counts and
+     * sizes are not affected.
+     */
+    void clear();
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence;
+
+/**
+ * Used as the value of the
+ * <code>jakarta.persistence.cache.storage</code> property, and of the
+ * <code>storage</code> element of the {@link CacheRegion} annotation,
+ * to specify where the second-level cache keeps the cached state of
+ * entities.
+ *
+ * @since Java Persistence 3.0
+ */
+public enum CacheStorageMode {
+
+    /**
+     * Keep the cached state as objects on the Java heap.
+     */
+    HEAP,
+
+    /**
+     * Keep the cached state outside of the Java heap, in a compact
+     * binary encoding derived from the metamodel, so that large
+     * caches do not enlarge the old generation of the heap or
+     * lengthen garbage collection pauses.  The state is decoded
+     * when an entity is loaded from the cache, for example by
+     * <code>EntityManager.find</code>.  The storage of the region is
+     * available for monitoring by means of the <code>unwrap</code>
+     * method of {@link Cache}.
+     */
+    OFF_HEAP,
+
+    /**
+     * The storage mode of the persistence unit, or else a
+     * provider-specific default, applies.
+     */
+    UNSPECIFIED
+}
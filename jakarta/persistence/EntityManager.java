@@ -18,10 +18,13 @@ package jakarta.persistence;
 import java.util.Map;
 import java.util.List;
 import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.criteria.CompiledCriteriaQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaSelect;
 import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaInsert;
 
 /**
  * Interface used to interact with the persistence context.
@@ -80,6 +83,32 @@ public interface EntityManager {
      */    
     public <T> T merge(T entity);
 
+    /**
+     * Insert the state of the given entity into the database, or
+     * update the existing row if an entity with the same primary key
+     * already exists, by means of a single database statement.
+     * Unlike <code>merge</code>, the existing state is not read.
+     * The given instance does not become managed, the operation is
+     * not cascaded, and the state of an instance with the same 
+     * identity that is managed by the persistence context is not
+     * synchronized with the result of the operation.
+     * Optimistic locking checks are not performed.
+     * The statement may be deferred until flush, so that consecutive
+     * upsert operations can be executed as a batch.
+     * When the transaction commits, the cached data of the entity
+     * instance with the same primary key, and any cached mapping from
+     * its natural identifier to that primary key, are evicted from
+     * the second-level cache, and the cached results of queries that
+     * reference the entity are evicted as described in {@link Cache}.
+     * @param entity  entity instance
+     * @throws IllegalArgumentException if the instance is not an
+     *         entity or its primary key is not assigned
+     * @throws TransactionRequiredException if there is no transaction or
+     *         the persistence context has not been joined to the transaction
+     * @since Java Persistence 3.0
+     */
+    public void upsert(Object entity);
+
     /**
      * Remove the entity instance.
      * @param entity  entity instance
@@ -177,6 +206,51 @@ public interface EntityManager {
     public <T> T find(Class<T> entityClass, Object primaryKey,
                       LockModeType lockMode);
 
+    /**
+     * Find by natural identifier.
+     * Search for an entity of the specified class whose simple
+     * natural identifier has the specified value.
+     * The natural identifier is resolved to a primary key by means
+     * of the second-level cache, if the entity is cached, before 
+     * the database is queried.
+     * If the entity instance is contained in the persistence context,
+     * it is returned from there.
+     * @param entityClass  entity class
+     * @param naturalId  value of the natural identifier
+     * @return the found entity instance or null if the entity does
+     *         not exist
+     * @throws IllegalArgumentException if the first argument does
+     *         not denote an entity type with a simple natural
+     *         identifier or the second argument is not a valid type
+     *         for that natural identifier or is null
+     * @see NaturalId
+     * @since Java Persistence 3.0
+     */
+    public <T> T findByNaturalId(Class<T> entityClass, Object naturalId);
+
+    /**
+     * Find by natural identifier.
+     * Search for an entity of the specified class whose composite
+     * natural identifier has the specified values.
+     * The natural identifier is resolved to a primary key by means
+     * of the second-level cache, if the entity is cached, before 
+     * the database is queried.
+     * If the entity instance is contained in the persistence context,
+     * it is returned from there.
+     * @param entityClass  entity class
+     * @param naturalId  map from the name of each attribute of the
+     *        natural identifier to its value
+     * @return the found entity instance or null if the entity does
+     *         not exist
+     * @throws IllegalArgumentException if the first argument does
+     *         not denote an entity type with a natural identifier or 
+     *         the map does not contain a valid value for each of its 
+     *         attributes
+     * @see NaturalId
+     * @since Java Persistence 3.0
+     */
+    public <T> T findByNaturalId(Class<T> entityClass, Map<String, ?> naturalId);
+
     /**
      * Find by primary key and lock, using the specified properties. 
      * Search for an entity of the specified class and primary key
@@ -561,6 +635,10 @@ public interface EntityManager {
     /**
      * Create an instance of <code>TypedQuery</code> for executing a
      * criteria query.
+     * The persistence provider may reuse the translation of a
+     * previously created criteria query that has an equal
+     * {@link jakarta.persistence.criteria.CriteriaFingerprint
+     * fingerprint}.
      * @param criteriaQuery  a criteria query object
      * @return the new query instance
      * @throws IllegalArgumentException if the criteria query is
@@ -569,6 +647,33 @@ public interface EntityManager {
      */
     public <T> TypedQuery<T> createQuery(CriteriaQuery<T> criteriaQuery); 
 
+    /**
+     * Create an instance of <code>TypedQuery</code> for executing a
+     * compiled criteria query.
+     * The translation of the compiled query is reused, so that
+     * the cost of creating the query instance is independent of
+     * the complexity of the query.
+     * @param compiledQuery  a compiled criteria query object
+     * @return the new query instance
+     * @throws IllegalArgumentException if the compiled query was
+     *         not created for the entity manager factory of this
+     *         entity manager
+     * @since Java Persistence 3.0
+     */
+    public <T> TypedQuery<T> createQuery(CompiledCriteriaQuery<T> compiledQuery);
+
+    /**
+     * Create an instance of <code>TypedQuery</code> for executing a
+     * top-level criteria query, such as a compound query combining
+     * the results of other queries by means of a set operator.
+     * @param selectQuery  a criteria query or compound query object
+     * @return the new query instance
+     * @throws IllegalArgumentException if the query is
+     *         found to be invalid
+     * @since Java Persistence 3.0
+     */
+    public <T> TypedQuery<T> createQuery(CriteriaSelect<T> selectQuery);
+
     /**
      * Create an instance of <code>Query</code> for executing a criteria
      * update query.
@@ -591,6 +696,19 @@ public interface EntityManager {
      */
     public Query createQuery(CriteriaDelete deleteQuery);
 
+    /**
+     * Create an instance of <code>Query</code> for executing a criteria
+     * insert query.  The query is executed by means of the
+     * <code>executeUpdate</code> method, which returns the number of
+     * rows inserted or updated.
+     * @param insertQuery  a criteria insert query object
+     * @return the new query instance
+     * @throws IllegalArgumentException if the insert query is
+     *         found to be invalid
+     * @since Java Persistence 3.0
+     */
+    public Query createQuery(CriteriaInsert insertQuery);
+
     /**
      * Create an instance of <code>TypedQuery</code> for executing a
      * Java Persistence query language statement.
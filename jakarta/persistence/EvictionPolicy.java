@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence;
+
+/**
+ * Defines the policies by which the persistence provider chooses the
+ * entries to be evicted from a bounded region of the second-level
+ * cache.
+ *
+ * @see CacheRegion
+ *
+ * @since Java Persistence 3.0
+ */
+public enum EvictionPolicy {
+
+    /**
+     * The persistence provider chooses the policy.
+     */
+    DEFAULT,
+
+    /**
+     * Evict the least recently used entry.
+     */
+    LRU,
+
+    /**
+     * Evict the least frequently used entry.
+     */
+    LFU,
+
+    /**
+     * Admit a new entry only if it is estimated to be used more
+     * frequently than the entry it would replace (Window TinyLFU).
+     * This keeps frequently used entries resident when the region
+     * is filled with entries that are used only once.
+     */
+    W_TINY_LFU,
+
+    /**
+     * Evict the oldest entry.
+     */
+    FIFO
+}
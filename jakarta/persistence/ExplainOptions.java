@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence;
+
+/**
+ * Options controlling the execution plan returned by
+ * {@link Query#explain(ExplainOptions)}.
+ *
+ * <p> Options are immutable values.  The default options, returned by
+ * {@link #plan()}, request the estimated plan of the query as text,
+ * without executing the query:
+ *
+ * <pre>
+ *     QueryExplanation explanation = query.explain(ExplainOptions.plan().withAnalyze(true));
+ * </pre>
+ *
+ * <p> Options that are not supported by the database in use are
+ * silently ignored.
+ *
+ * @see QueryExplanation
+ *
+ * @since Java Persistence 3.0
+ */
+public final class ExplainOptions {
+
+    /**
+     * Defines the formats in which an execution plan may be
+     * requested.
+     */
+    public static enum Format {
+
+        /** Plain text, as produced by the database. */
+        TEXT,
+
+        /** JSON document. */
+        JSON,
+
+        /** XML document. */
+        XML
+    }
+
+    private static final ExplainOptions PLAN = new ExplainOptions(false, false, Format.TEXT);
+
+    private final boolean analyze;
+
+    private final boolean verbose;
+
+    private final Format format;
+
+    private ExplainOptions(boolean analyze, boolean verbose, Format format) {
+        this.analyze = analyze;
+        this.verbose = verbose;
+        this.format = format;
+    }
+
+    /**
+     * Return the default options: the estimated plan as text.
+     * @return default options
+     */
+    public static ExplainOptions plan() {
+        return PLAN;
+    }
+
+    /**
+     * Return options that are equal to these options, except that
+     * the query is or is not executed to obtain the actual row
+     * counts and timings of the plan.
+     * <p> If the query is an update or delete statement, executing
+     * it modifies the database.
+     * @param analyze  whether the query is to be executed
+     * @return options
+     */
+    public ExplainOptions withAnalyze(boolean analyze) {
+        return new ExplainOptions(analyze, verbose, format);
+    }
+
+    /**
+     * Return options that are equal to these options, except that
+     * additional detail is or is not requested.
+     * @param verbose  whether additional detail is requested
+     * @return options
+     */
+    public ExplainOptions withVerbose(boolean verbose) {
+        return new ExplainOptions(analyze, verbose, format);
+    }
+
+    /**
+     * Return options that are equal to these options, except for
+     * the format of the plan.
+     * @param format  format of the plan
+     * @return options
+     * @throws IllegalArgumentException if the format is null
+     */
+    public ExplainOptions withFormat(Format format) {
+        if (format == null) {
+            throw new IllegalArgumentException("Format must be specified");
+        }
+        return new ExplainOptions(analyze, verbose, format);
+    }
+
+    /**
+     * Return whether the query is executed to obtain the actual
+     * row counts and timings of the plan.
+     * @return boolean indicating whether the query is executed
+     */
+    public boolean isAnalyze() {
+        return analyze;
+    }
+
+    /**
+     * Return whether additional detail is requested.
+     * @return boolean indicating whether additional detail is
+     *         requested
+     */
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * Return the format of the plan.
+     * @return format
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ExplainOptions)) {
+            return false;
+        }
+        ExplainOptions otherOptions = (ExplainOptions) other;
+        return analyze == otherOptions.analyze
+                && verbose == otherOptions.verbose
+                && format == otherOptions.format;
+    }
+
+    public int hashCode() {
+        return (analyze ? 1 : 0) + (verbose ? 2 : 0) + 4 * format.hashCode();
+    }
+
+    public String toString() {
+        return "ExplainOptions(analyze=" + analyze + ", verbose=" + verbose + ", format=" + format + ")";
+    }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence;
+
+/**
+ * Defines the values of the <code>jakarta.persistence.query.inListStrategy</code>
+ * property, which specifies how the persistence provider translates
+ * a test for membership in a list of values (an <code>IN</code>
+ * expression) whose values are bound from a collection, such as
+ * those created by <code>Expression.in(Collection)</code> or
+ * <code>CriteriaBuilder.in</code>, or by a collection-valued
+ * input parameter of a Java Persistence query language query.
+ *
+ * <p> This property may be passed as a hint to the methods of the
+ * {@link Query} and {@link TypedQuery} interfaces, used with the
+ * {@link NamedQuery} annotation, or specified as a property of the
+ * persistence unit, in which case it applies to all queries.  The
+ * strategy of the persistence unit also determines how the number of
+ * values of a collection literal contributes to the
+ * {@link jakarta.persistence.criteria.CriteriaFingerprint fingerprint}
+ * of a criteria query.
+ *
+ * <p> The maximum number of values per <code>IN</code> list used by
+ * the <code>CHUNK</code> strategy may be specified by means of the
+ * <code>jakarta.persistence.query.inListChunkSize</code> property.
+ * If it is not specified, the persistence provider chooses a value
+ * that does not exceed the parameter limit of the database.
+ *
+ * @since Java Persistence 3.0
+ */
+public enum InListStrategy {
+
+    /**
+     * Bind each value of the collection as a separate parameter:
+     * this is the default behavior.  The SQL statement depends on
+     * the number of values in the collection.
+     */
+    EXPAND,
+
+    /**
+     * Bind each value of the collection as a separate parameter, and
+     * pad the list by repeating the last value up to the next power
+     * of two.  Collections of similar size therefore share the same
+     * SQL statement, which limits the number of distinct statements
+     * to the number of such buckets.
+     */
+    PAD,
+
+    /**
+     * Split the values of the collection into padded lists of at
+     * most the chunk size values each, and combine the resulting
+     * <code>IN</code> tests by means of <code>OR</code>.
+     * This allows collections that exceed the parameter limit
+     * of the database.
+     */
+    CHUNK,
+
+    /**
+     * Bind the collection as a single array-valued parameter, or
+     * join against a temporary table holding the values, so that
+     * the SQL statement is independent of the number of values.
+     * If the database supports neither, the persistence provider
+     * must use the <code>CHUNK</code> strategy instead.
+     */
+    ARRAY
+}
@@ -79,4 +79,14 @@ public @interface NamedQuery {
      * vendor-specific query hints. 
      */
     QueryHint[] hints() default {};
+
+    /**
+     * (Optional) Whether the results of the query are cached in the
+     * query result cache of the second-level cache.  Equivalent to
+     * specifying the <code>jakarta.persistence.cache.queryResults</code>
+     * hint with the value <code>true</code>.
+     * @see Cache
+     * @since Java Persistence 3.0
+     */
+    boolean cacheable() default false;
 }
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence;
+
+import java.lang.annotation.Target;
+import java.lang.annotation.Retention;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Specifies that the persistent field or property is part of the
+ * natural identifier of an entity: a business key, such as a SKU or
+ * an email address, that uniquely identifies an instance of the
+ * entity in addition to its primary key.
+ * If the annotation is applied to more than one field or property
+ * of an entity, the natural identifier is composite.
+ * The mapped columns must be subject to a unique constraint; if
+ * schema generation is in use, such a constraint is generated.
+ *
+ * <p> Entities are looked up by natural identifier by means of the
+ * <code>findByNaturalId</code> methods of {@link EntityManager}.  If
+ * the entity is cached, the persistence provider maintains a mapping
+ * from natural identifier to primary key in the second-level cache,
+ * so that a lookup by natural identifier of a cached entity does not
+ * access the database.  This mapping is evicted together with the
+ * cached data of the entity, including when the entity is upserted
+ * or is the target of a criteria insert operation whose conflict
+ * action is <code>UPDATE</code>.
+ *
+ * <pre>
+ *   Example:
+ *
+ *   &#064;NaturalId
+ *   &#064;Column(unique=true)
+ *   public String getSku() { return sku; }
+ * </pre>
+ *
+ * @see EntityManager#findByNaturalId(Class, Object)
+ *
+ * @since Java Persistence 3.0
+ */
+@Target({METHOD, FIELD})
+@Retention(RUNTIME)
+public @interface NaturalId {
+
+    /**
+     * (Optional) Whether the value of the natural identifier may
+     * change during the lifetime of an entity instance.  If false,
+     * the persistence provider may assume that cached mappings from
+     * natural identifier to primary key never become stale.
+     */
+    boolean mutable() default false;
+}
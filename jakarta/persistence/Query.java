@@ -39,7 +39,9 @@ public interface Query {
      * as an untyped List.
      * @return a list of the results
      * @throws IllegalStateException if called for a Java
-     *         Persistence query language UPDATE or DELETE statement
+     *         Persistence query language UPDATE or DELETE statement,
+     *         or for a criteria update or delete operation without
+     *         a returning clause
      * @throws QueryTimeoutException if the query execution exceeds
      *         the query timeout value set and only the statement is
      *         rolled back
@@ -65,7 +67,9 @@ public interface Query {
      *
      * @return a stream of the results
      * @throws IllegalStateException if called for a Java
-     *         Persistence query language UPDATE or DELETE statement
+     *         Persistence query language UPDATE or DELETE statement,
+     *         or for a criteria update or delete operation without
+     *         a returning clause
      * @throws QueryTimeoutException if the query execution exceeds
      *         the query timeout value set and only the statement is
      *         rolled back
@@ -93,7 +97,9 @@ public interface Query {
      * @throws NoResultException if there is no result
      * @throws NonUniqueResultException if more than one result
      * @throws IllegalStateException if called for a Java
-     *         Persistence query language UPDATE or DELETE statement
+     *         Persistence query language UPDATE or DELETE statement,
+     *         or for a criteria update or delete operation without
+     *         a returning clause
      * @throws QueryTimeoutException if the query execution exceeds
      *         the query timeout value set and only the statement is
      *         rolled back
@@ -470,6 +476,37 @@ public interface Query {
      */
     LockModeType getLockMode();
 
+    /**
+     * Return the SQL statement to which the query is translated for
+     * the database in use.  If the query is executed by means of
+     * more than one SQL statement, the first statement is returned.
+     * @return SQL statement
+     * @throws IllegalStateException if called for a stored
+     *         procedure query
+     * @since Java Persistence 3.0
+     */
+    String getTranslatedSql();
+
+    /**
+     * Return the SQL statements to which the query is translated,
+     * the positions to which its parameters are bound, and the
+     * execution plan chosen by the database, obtained by means of
+     * its <code>EXPLAIN</code> facility where supported.
+     * The query is executed only if requested by the given options.
+     * @param options  explain options
+     * @return query explanation
+     * @throws IllegalStateException if called for a stored
+     *         procedure query
+     * @throws TransactionRequiredException if the options request
+     *         execution of an update or delete statement and there
+     *         is no transaction or the persistence context has not
+     *         been joined to the transaction
+     * @throws PersistenceException if the execution plan cannot
+     *         be obtained
+     * @since Java Persistence 3.0
+     */
+    QueryExplanation explain(ExplainOptions options);
+
     /**
      * Return an object of the specified type to allow access to 
      * the provider-specific API.  If the provider's query 
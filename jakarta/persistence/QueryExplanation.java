@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The SQL statements to which a query is translated, together with
+ * the execution plan chosen by the database.
+ *
+ * <p> A query explanation is obtained by means of
+ * {@link Query#explain(ExplainOptions)}, and reflects the parameter
+ * values, hints, lock mode and result range of the query at the time
+ * the method is invoked.  It may be used to detect, for example,
+ * full table scans or cartesian products resulting from fetch joins.
+ *
+ * @see ExplainOptions
+ *
+ * @since Java Persistence 3.0
+ */
+public interface QueryExplanation {
+
+    /**
+     * Return the SQL statements that are executed for the query,
+     * in order of execution.
+     * @return list of SQL statements
+     */
+    List<String> getStatements();
+
+    /**
+     * Return the positions of the JDBC parameters of the first SQL
+     * statement to which the parameters of the query are bound,
+     * numbered from 1.  A query parameter may be bound to several
+     * JDBC parameters.
+     * @return map from query parameters to JDBC parameter positions
+     */
+    Map<Parameter<?>, List<Integer>> getParameterPositions();
+
+    /**
+     * Return the execution plan of the first SQL statement, in the
+     * requested format, or null if the database does not support
+     * the retrieval of execution plans.
+     * @return execution plan
+     */
+    String getPlan();
+
+    /**
+     * Return the options with which the explanation was obtained.
+     * @return explain options
+     */
+    ExplainOptions getOptions();
+}
@@ -36,6 +36,23 @@ public interface Tuple {
      */
     <X> X get(TupleElement<X> tupleElement);
 
+    /**
+     * Get the value of the element at the position of the
+     * specified tuple handle.
+     * The value is not checked against the type of the handle, 
+     * and the handle must have been obtained from the selection
+     * of the query that produced the tuple.
+     * @param handle  tuple handle
+     * @return value of the tuple element
+     * @throws IllegalArgumentException if the position of the
+     *         handle exceeds the length of the result tuple
+     * @since Java Persistence 3.0
+     */
+    @SuppressWarnings("unchecked")
+    default <X> X get(TupleHandle<X> handle) {
+        return (X) get(handle.getIndex());
+    }
+
     /**
      * Get the value of the tuple element to which the
      * specified alias has been assigned.
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence;
+
+/**
+ * A tuple element that is resolved to a fixed position in the query
+ * result tuple, so that its value can be retrieved without looking up
+ * the element by alias.
+ *
+ * <p> A tuple handle is obtained from the compound selection of the
+ * query, by means of the <code>getHandle</code> method of
+ * <code>CompoundSelection</code>, and is passed to
+ * {@link Tuple#get(TupleHandle)}:
+ *
+ * <pre>
+ *     Path&#060;String&#062; name = customer.get(Customer_.name);
+ *     CompoundSelection&#060;Tuple&#062; selection = cb.tuple(name, cb.count(order));
+ *     TupleHandle&#060;String&#062; nameHandle = selection.getHandle(name);
+ *     q.select(selection);
+ *     for (Tuple t : em.createQuery(q).getResultList()) {
+ *         String n = t.get(nameHandle);
+ *         ...
+ *     }
+ * </pre>
+ *
+ * @param <X> the type of the element
+ *
+ * @see Tuple
+ *
+ * @since Java Persistence 3.0
+ */
+public interface TupleHandle<X> extends TupleElement<X> {
+
+    /**
+     * Return the position of the element in the result tuple.
+     * The first position is 0.
+     * @return position in result tuple
+     */
+    int getIndex();
+}
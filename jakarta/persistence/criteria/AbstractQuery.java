@@ -52,6 +52,37 @@ public interface AbstractQuery<T> extends CommonAbstractCriteria {
      */
     <X> Root<X> from(EntityType<X> entity);
 
+    /**
+     * Create and add a query root corresponding to the given
+     * common table expression, forming a cartesian product with
+     * any existing roots.
+     * The common table expression must have been defined by this
+     * query or by the top-level query of which this query is a
+     * subquery.
+     * @param cte  common table expression
+     * @return query root corresponding to the given common table
+     *         expression
+     * @throws IllegalArgumentException if the common table expression
+     *         is not defined by the top-level query
+     * @since Java Persistence 3.0
+     */
+    <X> Root<X> from(CommonTableExpression<X> cte);
+
+    /**
+     * Create and add a query root corresponding to the given
+     * subquery or compound subquery, used as a derived table,
+     * forming a cartesian product with any existing roots.
+     * The subquery must have been created by this query, and must
+     * not be correlated to this query; use a lateral join to
+     * refer to other roots of the query.
+     * @param subquery  subquery defining the derived table
+     * @return derived root corresponding to the given subquery
+     * @throws IllegalArgumentException if the subquery was not
+     *         created by this query or is correlated
+     * @since Java Persistence 3.0
+     */
+    <X> DerivedRoot<X> from(SubquerySelect<X> subquery);
+
     /**
      * Modify the query to restrict the query results according
      * to the specified boolean expression.
@@ -78,6 +109,9 @@ public interface AbstractQuery<T> extends CommonAbstractCriteria {
      * Replaces the previous specified grouping expressions, if any.
      * If no grouping expressions are specified, any previously 
      * added grouping expressions are simply removed.
+     * Grouping expressions created by means of the <code>rollup</code>,
+     * <code>cube</code> and <code>groupingSets</code> methods of
+     * <code>CriteriaBuilder</code> specify several groupings.
      * @param grouping  zero or more grouping expressions
      * @return the modified query
      */
@@ -89,6 +123,9 @@ public interface AbstractQuery<T> extends CommonAbstractCriteria {
      * Replaces the previous specified grouping expressions, if any.
      * If no grouping expressions are specified, any previously 
      * added grouping expressions are simply removed.
+     * Grouping expressions created by means of the <code>rollup</code>,
+     * <code>cube</code> and <code>groupingSets</code> methods of
+     * <code>CriteriaBuilder</code> specify several groupings.
      * @param grouping  list of zero or more grouping expressions
      * @return the modified query
      */
@@ -127,6 +164,48 @@ public interface AbstractQuery<T> extends CommonAbstractCriteria {
      */
     AbstractQuery<T> distinct(boolean distinct);
 
+    /**
+     * Set the maximum number of results of the query.
+     * The limit is part of the query definition, and is therefore
+     * also applied when the query is used as a subquery.
+     * Replaces the previous limit, if any.
+     * Results are limited after ordering, if an ordering has 
+     * been specified.
+     * @param maxResults  maximum number of results
+     * @return the modified query
+     * @throws IllegalArgumentException if the argument is negative
+     * @since Java Persistence 3.0
+     */
+    AbstractQuery<T> limit(int maxResults);
+
+    /**
+     * Set the maximum number of results of the query, including
+     * in addition any further results that are equal to the last 
+     * of them according to the ordering of the query
+     * (<code>FETCH FIRST ... ROWS WITH TIES</code>).
+     * Replaces the previous limit, if any.
+     * @param maxResults  maximum number of results, not counting ties
+     * @return the modified query
+     * @throws IllegalArgumentException if the argument is negative
+     * @throws IllegalStateException if the query has no ordering
+     *         when it is executed
+     * @since Java Persistence 3.0
+     */
+    AbstractQuery<T> limitWithTies(int maxResults);
+
+    /**
+     * Set the position of the first result of the query to be
+     * returned, numbered from 0.
+     * The offset is part of the query definition, and is therefore
+     * also applied when the query is used as a subquery.
+     * Replaces the previous offset, if any.
+     * @param firstResult  position of the first result
+     * @return the modified query
+     * @throws IllegalArgumentException if the argument is negative
+     * @since Java Persistence 3.0
+     */
+    AbstractQuery<T> offset(int firstResult);
+
     /**
      * Return the query roots.  These are the roots that have
      * been defined for the <code>CriteriaQuery</code> or <code>Subquery</code> itself,
@@ -137,6 +216,16 @@ public interface AbstractQuery<T> extends CommonAbstractCriteria {
      */   
     Set<Root<?>> getRoots();
 
+    /**
+     * Return the derived roots of the query, that is, the roots
+     * created from subqueries.  Returns empty set if no derived
+     * roots have been defined.
+     * Modifications to the set do not affect the query.
+     * @return the set of derived roots
+     * @since Java Persistence 3.0
+     */
+    Set<DerivedRoot<?>> getDerivedRoots();
+
     /**
      *  Return the selection of the query, or null if no selection
      *  has been set.
@@ -168,6 +257,30 @@ public interface AbstractQuery<T> extends CommonAbstractCriteria {
      */
     boolean isDistinct();
 
+    /**
+     * Return the maximum number of results of the query, or null
+     * if no limit has been specified.
+     * @return maximum number of results
+     * @since Java Persistence 3.0
+     */
+    Integer getLimit();
+
+    /**
+     * Return whether results that are equal to the last result
+     * within the limit are also returned.
+     * @return boolean indicating whether ties are included
+     * @since Java Persistence 3.0
+     */
+    boolean isLimitWithTies();
+
+    /**
+     * Return the position of the first result of the query to be
+     * returned.  Returns 0 if no offset has been specified.
+     * @return position of the first result
+     * @since Java Persistence 3.0
+     */
+    int getOffset();
+
     /**
      * Return the result type of the query or subquery.  If a result
      * type was specified as an argument to the
@@ -45,5 +45,41 @@ public interface CommonAbstractCriteria {
      * @return where clause predicate
      */
     Predicate getRestriction();
+
+    /**
+     * Return the structural fingerprint of the criteria object.
+     * Under <code>LiteralHandlingMode.BIND</code>, the fingerprint
+     * does not depend on the values of literals, apart from their
+     * nullness and, as the in-list strategy requires, the number of
+     * elements of a collection of values, so that criteria objects
+     * that differ only in their literal values usually have equal
+     * fingerprints.  Under
+     * <code>LiteralHandlingMode.INLINE</code>, the literal values
+     * contribute to the fingerprint.
+     * The fingerprint reflects the state of the criteria object at
+     * the time this method is invoked.
+     * @return structural fingerprint
+     * @since Java Persistence 3.0
+     */
+    CriteriaFingerprint getFingerprint();
+
+    /**
+     * Override the literal handling mode of the
+     * <code>CriteriaBuilder</code> that created the criteria object.
+     * The mode applies to all literal values of the criteria
+     * object, including those of its subqueries, and contributes
+     * to its {@link #getFingerprint() fingerprint}.
+     * @param mode  literal handling mode
+     * @since Java Persistence 3.0
+     */
+    void setLiteralHandlingMode(LiteralHandlingMode mode);
+
+    /**
+     * Return the literal handling mode in effect for the criteria
+     * object.
+     * @return literal handling mode
+     * @since Java Persistence 3.0
+     */
+    LiteralHandlingMode getLiteralHandlingMode();
  
 }
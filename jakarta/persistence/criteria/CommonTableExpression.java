@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+/**
+ * The <code>CommonTableExpression</code> interface represents a named
+ * subquery defined in the <code>WITH</code> clause of a criteria query.
+ *
+ * <p> A common table expression is defined by means of the
+ * <code>with</code> or <code>withRecursive</code> method of
+ * <code>CriteriaQuery</code>, and is used as a query root by means of
+ * the <code>from</code> method of the query or of its subqueries.
+ * The selection item of the defining subquery must be an entity;
+ * a query root created from the common table expression ranges over
+ * the entities selected by it.
+ *
+ * <p> A recursive common table expression is defined by an anchor
+ * subquery and by a recursive subquery that uses the common table
+ * expression itself as a root.  Its result is the union of the
+ * result of the anchor subquery and of the results of repeatedly
+ * evaluating the recursive subquery over the rows produced by the
+ * previous evaluation, until no further rows are produced.  For
+ * example, the subtree of a category is retrieved by:
+ *
+ * <pre>
+ *     CriteriaQuery&#060;Category&#062; q = cb.createQuery(Category.class);
+ *     Subquery&#060;Category&#062; anchor = q.subquery(Category.class);
+ *     Root&#060;Category&#062; top = anchor.from(Category.class);
+ *     anchor.select(top).where(cb.equal(top, category));
+ *
+ *     CommonTableExpression&#060;Category&#062; tree = q.withRecursive("tree", anchor, t -&#062; {
+ *         Subquery&#060;Category&#062; step = q.subquery(Category.class);
+ *         Root&#060;Category&#062; child = step.from(Category.class);
+ *         Root&#060;Category&#062; parent = step.from(t);
+ *         return step.select(child).where(cb.equal(child.get(Category_.parent), parent));
+ *     });
+ *     q.select(q.from(tree));
+ * </pre>
+ *
+ * @param <T>  the entity type of the rows of the common table expression
+ *
+ * @see CriteriaQuery#with(String, Subquery)
+ * @see CriteriaQuery#withRecursive(String, Subquery, java.util.function.Function)
+ * @see AbstractQuery#from(CommonTableExpression)
+ *
+ * @since Java Persistence 3.0
+ */
+public interface CommonTableExpression<T> {
+
+    /**
+     * Return the name of the common table expression.
+     * @return name
+     */
+    String getName();
+
+    /**
+     * Return the subquery that defines the common table expression,
+     * or the anchor subquery of a recursive common table expression.
+     * @return defining subquery
+     */
+    Subquery<T> getDefinition();
+
+    /**
+     * Return the recursive subquery of a recursive common table
+     * expression, or null if the common table expression is not
+     * recursive.
+     * @return recursive subquery
+     */
+    Subquery<T> getRecursiveDefinition();
+
+    /**
+     * Return whether the common table expression is recursive.
+     * @return boolean indicating whether the common table expression
+     *         is recursive
+     */
+    boolean isRecursive();
+
+    /**
+     * Return the Java type of the rows of the common table
+     * expression.
+     * @return Java type
+     */
+    Class<T> getJavaType();
+}
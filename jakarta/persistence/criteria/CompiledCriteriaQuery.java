@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+import java.util.Set;
+
+/**
+ * An immutable, compiled form of a <code>CriteriaQuery</code> or
+ * <code>CompoundQuery</code>.
+ *
+ * <p> A compiled criteria query is obtained by means of the
+ * {@link CriteriaQuery#compile()} or {@link CompoundQuery#compile()}
+ * method. It is bound to the metamodel of the entity manager factory
+ * whose <code>CriteriaBuilder</code> created the query, and is
+ * unaffected by subsequent modifications of that query.
+ *
+ * <p> A compiled criteria query is safe for use by multiple concurrent
+ * threads and may be held for the lifetime of the entity manager
+ * factory, for example in a static field.  It is executed by passing
+ * it to the <code>createQuery</code> method of any entity manager
+ * of the same entity manager factory:
+ *
+ * <pre>
+ *     static final CompiledCriteriaQuery&#060;Order&#062; OPEN_ORDERS = ...;
+ *
+ *     List&#060;Order&#062; orders = em.createQuery(OPEN_ORDERS)
+ *             .setParameter("customer", customer)
+ *             .getResultList();
+ * </pre>
+ *
+ * @param <T>  the type of the query result
+ *
+ * @see jakarta.persistence.EntityManager#createQuery(CompiledCriteriaQuery)
+ *
+ * @since Java Persistence 3.0
+ */
+public interface CompiledCriteriaQuery<T> {
+
+    /**
+     * Return the result type of the query.
+     * @return result type
+     */
+    Class<T> getResultType();
+
+    /**
+     * Return the parameters of the query.  Returns empty set if
+     * there are no parameters.
+     * @return the query parameters
+     */
+    Set<ParameterExpression<?>> getParameters();
+
+    /**
+     * Return the structural fingerprint of the criteria query or
+     * compound query from which the compiled query was created.
+     * @return structural fingerprint
+     */
+    CriteriaFingerprint getFingerprint();
+}
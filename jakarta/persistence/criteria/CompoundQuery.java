@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+import java.util.List;
+
+/**
+ * The <code>CompoundQuery</code> interface defines a top-level query
+ * whose result is computed by the database by combining the results
+ * of two queries by means of a set operator.
+ *
+ * <p> A compound query is created by means of the <code>union</code>,
+ * <code>unionAll</code>, <code>intersect</code> and <code>except</code>
+ * methods of <code>CriteriaBuilder</code>, and is executed by means of
+ * the <code>createQuery(CriteriaSelect)</code> method of
+ * <code>EntityManager</code>.
+ * The operands must have the same number of selection items, of
+ * compatible types.  An operand may itself be a compound query.
+ *
+ * <p> Ordering and limits apply to the combined result.  Ordering
+ * expressions must correspond to selection items of the leftmost
+ * operand.
+ *
+ * @param <T>  the type of the result
+ *
+ * @since Java Persistence 3.0
+ */
+public interface CompoundQuery<T> extends CriteriaSelect<T> {
+
+    /**
+     * Return the set operator of the compound query.
+     * @return set operator
+     */
+    SetOperator getOperator();
+
+    /**
+     * Return the operands of the compound query.
+     * @return list of the left and right operands
+     */
+    List<CriteriaSelect<? extends T>> getOperands();
+
+    /**
+     * Specify the ordering expressions that are used to
+     * order the combined result.
+     * Replaces the previous ordering expressions, if any.
+     * If no ordering expressions are specified, the previous
+     * ordering, if any, is simply removed, and results will
+     * be returned in no particular order.
+     * @param o  zero or more ordering expressions
+     * @return the modified compound query
+     */
+    CompoundQuery<T> orderBy(Order... o);
+
+    /**
+     * Specify the ordering expressions that are used to
+     * order the combined result.
+     * Replaces the previous ordering expressions, if any.
+     * If no ordering expressions are specified, the previous
+     * ordering, if any, is simply removed, and results will
+     * be returned in no particular order.
+     * @param o  list of zero or more ordering expressions
+     * @return the modified compound query
+     */
+    CompoundQuery<T> orderBy(List<Order> o);
+
+    /**
+     * Return the ordering expressions in order of precedence.
+     * Returns empty list if no ordering expressions have been
+     * specified.
+     * Modifications to the list do not affect the query.
+     * @return the list of ordering expressions
+     */
+    List<Order> getOrderList();
+
+    /**
+     * Set the maximum number of rows of the combined result.
+     * @param maxResults  maximum number of rows
+     * @return the modified compound query
+     * @throws IllegalArgumentException if the argument is negative
+     */
+    CompoundQuery<T> limit(int maxResults);
+
+    /**
+     * Set the position of the first row of the combined result
+     * to be returned, numbered from 0.
+     * @param firstResult  position of the first row
+     * @return the modified compound query
+     * @throws IllegalArgumentException if the argument is negative
+     */
+    CompoundQuery<T> offset(int firstResult);
+
+    /**
+     * Return the maximum number of rows of the combined result, or
+     * null if no limit has been specified.
+     * @return maximum number of rows
+     */
+    Integer getLimit();
+
+    /**
+     * Return the position of the first row of the combined result
+     * to be returned.  Returns 0 if no offset has been specified.
+     * @return position of the first row
+     */
+    int getOffset();
+
+    /**
+     * Return the structural fingerprint of the compound query.
+     * The fingerprint is composed of the set operator, the
+     * fingerprints of the operands, and the ordering, limit and
+     * offset of the combined result, as defined by
+     * {@link CriteriaFingerprint}.
+     * The fingerprint reflects the state of the compound query and
+     * of its operands at the time this method is invoked.
+     * @return structural fingerprint
+     */
+    CriteriaFingerprint getFingerprint();
+
+    /**
+     * Create an immutable, thread-safe compiled form of the compound
+     * query in its current state.
+     * Subsequent modifications of the compound query or of its
+     * operands do not affect the compiled query.
+     * @return the compiled query
+     * @throws IllegalStateException if the compound query or one
+     *         of its operands is not valid
+     */
+    CompiledCriteriaQuery<T> compile();
+}
@@ -15,6 +15,8 @@
  ******************************************************************************/ 
 package jakarta.persistence.criteria;
 
+import jakarta.persistence.TupleHandle;
+
 /**
  * The <code>CompoundSelection</code> interface defines a compound selection item
  * (tuple, array, or result of constructor).
@@ -23,4 +25,16 @@ package jakarta.persistence.criteria;
  *
  * @since Java Persistence 2.0
  */
-public interface CompoundSelection<X> extends Selection<X> {}
+public interface CompoundSelection<X> extends Selection<X> {
+
+    /**
+     * Return a handle for the given selection item, resolved to 
+     * its position in the compound selection.
+     * @param item  selection item of the compound selection
+     * @return tuple handle
+     * @throws IllegalArgumentException if the argument is not a
+     *         selection item of the compound selection
+     * @since Java Persistence 3.0
+     */
+    <Y> TupleHandle<Y> getHandle(Selection<Y> item);
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+import java.util.List;
+
+/**
+ * The <code>CompoundSubquery</code> interface defines a subquery whose
+ * result is computed by combining the results of two subqueries by
+ * means of a set operator.
+ *
+ * <p> A compound subquery is created by means of the <code>union</code>,
+ * <code>unionAll</code>, <code>intersect</code> and <code>except</code>
+ * methods of <code>CriteriaBuilder</code>.  It may be used as an
+ * expression, as the argument of the <code>exists</code>,
+ * <code>all</code>, <code>some</code> and <code>any</code> methods of
+ * <code>CriteriaBuilder</code>, as the source of a derived root or
+ * join, and as an operand of another compound subquery.
+ * The operands must be subqueries or compound subqueries of the
+ * same query, with selection items of compatible types.
+ *
+ * <p> Ordering and limits apply to the combined result.
+ *
+ * @param <T>  the type of the selection item
+ *
+ * @since Java Persistence 3.0
+ */
+public interface CompoundSubquery<T> extends SubquerySelect<T> {
+
+    /**
+     * Return the set operator of the compound subquery.
+     * @return set operator
+     */
+    SetOperator getOperator();
+
+    /**
+     * Return the operands of the compound subquery.
+     * @return list of the left and right operands
+     */
+    List<SubquerySelect<? extends T>> getOperands();
+
+    /**
+     * Specify the ordering expressions that are used to
+     * order the combined result.
+     * Replaces the previous ordering expressions, if any.
+     * @param o  zero or more ordering expressions
+     * @return the modified compound subquery
+     */
+    CompoundSubquery<T> orderBy(Order... o);
+
+    /**
+     * Specify the ordering expressions that are used to
+     * order the combined result.
+     * Replaces the previous ordering expressions, if any.
+     * @param o  list of zero or more ordering expressions
+     * @return the modified compound subquery
+     */
+    CompoundSubquery<T> orderBy(List<Order> o);
+
+    /**
+     * Return the ordering expressions in order of precedence.
+     * Returns empty list if no ordering expressions have been
+     * specified.
+     * Modifications to the list do not affect the subquery.
+     * @return the list of ordering expressions
+     */
+    List<Order> getOrderList();
+
+    /**
+     * Set the maximum number of rows of the combined result.
+     * @param maxResults  maximum number of rows
+     * @return the modified compound subquery
+     * @throws IllegalArgumentException if the argument is negative
+     */
+    CompoundSubquery<T> limit(int maxResults);
+
+    /**
+     * Set the position of the first row of the combined result
+     * to be returned, numbered from 0.
+     * @param firstResult  position of the first row
+     * @return the modified compound subquery
+     * @throws IllegalArgumentException if the argument is negative
+     */
+    CompoundSubquery<T> offset(int firstResult);
+
+    /**
+     * Return the maximum number of rows of the combined result, or
+     * null if no limit has been specified.
+     * @return maximum number of rows
+     */
+    Integer getLimit();
+
+    /**
+     * Return the position of the first row of the combined result
+     * to be returned.  Returns 0 if no offset has been specified.
+     * @return position of the first row
+     */
+    int getOffset();
+}
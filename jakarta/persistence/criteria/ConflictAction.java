@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+/**
+ * Defines the action taken by a <code>CriteriaInsert</code> operation
+ * when a row to be inserted conflicts with an existing row on its
+ * primary key or on a unique key.
+ *
+ * @see CriteriaInsert#onConflict(ConflictAction, Path...)
+ *
+ * @since Java Persistence 3.0
+ */
+public enum ConflictAction {
+
+    /**
+     * Fail the statement: this is the default behavior.
+     */
+    ERROR,
+
+    /**
+     * Leave the existing row unchanged and skip the row to be
+     * inserted.
+     */
+    DO_NOTHING,
+
+    /**
+     * Update the existing row with the values of the row to be
+     * inserted, except for the attributes of the conflict target.
+     */
+    UPDATE
+}
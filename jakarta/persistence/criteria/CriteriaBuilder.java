@@ -55,6 +55,37 @@ public interface CriteriaBuilder {
      */
     CriteriaQuery<Tuple> createTupleQuery();
 
+    /**
+     *  Return a <code>CriteriaBuilder</code> that creates criteria 
+     *  objects using the specified literal handling mode.
+     *  The returned builder is otherwise equivalent to this builder.
+     *  @param mode  literal handling mode
+     *  @return criteria builder using the given mode
+     *  @since Java Persistence 3.0
+     */
+    CriteriaBuilder withLiteralHandlingMode(LiteralHandlingMode mode);
+
+    /**
+     *  Return the literal handling mode of the criteria objects 
+     *  created by this builder.  Unless otherwise specified, this is
+     *  the value of the <code>jakarta.persistence.criteria.literalHandling</code>
+     *  property of the persistence unit, or
+     *  <code>LiteralHandlingMode.INLINE</code> if the property 
+     *  has not been set.
+     *  @return literal handling mode
+     *  @since Java Persistence 3.0
+     */
+    LiteralHandlingMode getLiteralHandlingMode();
+
+    /**
+     *  Open a scope in which criteria objects are built from storage
+     *  that the persistence provider may pool and reuse once the
+     *  scope has been closed.
+     *  @return new criteria scope
+     *  @since Java Persistence 3.0
+     */
+    CriteriaScope scope();
+
     // methods to construct queries for bulk updates and deletes:
 
     /**
@@ -73,6 +104,15 @@ public interface CriteriaBuilder {
      */
     <T> CriteriaDelete<T> createCriteriaDelete(Class<T> targetEntity);
 
+    /**
+     *  Create a <code>CriteriaInsert</code> query object to perform an insert 
+     *  or upsert operation.
+     *  @param targetEntity  target type for insert operation
+     *  @return the query object
+     *  @since Java Persistence 3.0
+     */
+    <T> CriteriaInsert<T> createCriteriaInsert(Class<T> targetEntity);
+
 
     // selection construction methods:
 	
@@ -208,6 +248,170 @@ public interface CriteriaBuilder {
      * @return count distinct expression
      */
     Expression<Long> countDistinct(Expression<?> x);
+
+    /**
+     * Create an aggregate expression that applies the given
+     * aggregate expression only to the rows that satisfy the
+     * specified boolean expression (<code>FILTER (WHERE ...)</code>).
+     * The resulting expression may be passed to the <code>over</code>
+     * method.
+     * @param aggregate  aggregate expression
+     * @param restriction  a simple or compound boolean expression
+     * @return filtered aggregate expression
+     * @throws IllegalArgumentException if the expression is not
+     *         an aggregate expression
+     * @since Java Persistence 3.0
+     */
+    <T> Expression<T> filter(Expression<T> aggregate, Expression<Boolean> restriction);
+
+    /**
+     * Create an aggregate expression that applies the given
+     * aggregate expression only to the rows that satisfy the
+     * conjunction of the specified restriction predicates.
+     * The resulting expression may be passed to the <code>over</code>
+     * method.
+     * @param aggregate  aggregate expression
+     * @param restrictions  zero or more restriction predicates
+     * @return filtered aggregate expression
+     * @throws IllegalArgumentException if the expression is not
+     *         an aggregate expression
+     * @since Java Persistence 3.0
+     */
+    <T> Expression<T> filter(Expression<T> aggregate, Predicate... restrictions);
+
+
+    //grouping sets:
+
+    /**
+     * Create a grouping expression that groups by every prefix of
+     * the given expressions, from all of them to none of them.
+     * @param expressions  grouping expressions
+     * @return rollup grouping expression
+     * @since Java Persistence 3.0
+     */
+    GroupingExpression rollup(Expression<?>... expressions);
+
+    /**
+     * Create a grouping expression that groups by every subset of
+     * the given expressions.
+     * @param expressions  grouping expressions
+     * @return cube grouping expression
+     * @since Java Persistence 3.0
+     */
+    GroupingExpression cube(Expression<?>... expressions);
+
+    /**
+     * Create a grouping expression that groups by each of the
+     * given grouping sets.
+     * @param sets  expressions or grouping sets created by the
+     *        <code>groupingSet</code> method
+     * @return grouping sets expression
+     * @since Java Persistence 3.0
+     */
+    GroupingExpression groupingSets(Expression<?>... sets);
+
+    /**
+     * Create a grouping set, to be passed to the
+     * <code>groupingSets</code> method, that groups by all of the
+     * given expressions.  A grouping set with no expressions denotes
+     * the grand total.
+     * @param expressions  zero or more grouping expressions
+     * @return grouping set
+     * @since Java Persistence 3.0
+     */
+    GroupingExpression groupingSet(Expression<?>... expressions);
+
+    /**
+     * Create an expression that returns, for each result row, a bit
+     * mask in which the bit corresponding to each of the given
+     * grouping expressions is set if the expression does not take
+     * part in the grouping of that row.  The rightmost expression
+     * corresponds to the least significant bit.
+     * @param expressions  grouping expressions of the query
+     * @return grouping expression
+     * @since Java Persistence 3.0
+     */
+    Expression<Integer> grouping(Expression<?>... expressions);
+
+
+    //window functions:
+
+    /**
+     *  Create a window specification for use with window functions.
+     *  @return window
+     *  @since Java Persistence 3.0
+     */
+    Window createWindow();
+
+    /**
+     * Create a window function expression applying the given 
+     * aggregate expression to the rows of a window rather than 
+     * to a group.
+     * @param aggregate  aggregate expression created by the
+     *        <code>avg</code>, <code>sum</code>, <code>sumAsLong</code>,
+     *        <code>sumAsDouble</code>, <code>max</code>, <code>min</code>,
+     *        <code>greatest</code>, <code>least</code>, <code>count</code>
+     *        or <code>countDistinct</code> method
+     * @param window  window over which the aggregate is computed
+     * @return window function expression
+     * @throws IllegalArgumentException if the expression is not
+     *         an aggregate expression
+     * @since Java Persistence 3.0
+     */
+    <T> Expression<T> over(Expression<T> aggregate, Window window);
+
+    /**
+     * Create a window function expression returning the number
+     * of the current row within its partition, starting at 1.
+     * @param window  window over which the function is computed
+     * @return row number expression
+     * @since Java Persistence 3.0
+     */
+    Expression<Long> rowNumber(Window window);
+
+    /**
+     * Create a window function expression returning the rank of
+     * the current row within its partition, with gaps.
+     * @param window  window over which the function is computed
+     * @return rank expression
+     * @since Java Persistence 3.0
+     */
+    Expression<Long> rank(Window window);
+
+    /**
+     * Create a window function expression returning the rank of
+     * the current row within its partition, without gaps.
+     * @param window  window over which the function is computed
+     * @return dense rank expression
+     * @since Java Persistence 3.0
+     */
+    Expression<Long> denseRank(Window window);
+
+    /**
+     * Create a window function expression returning the value
+     * of the argument for the row at the given offset before the 
+     * current row within its partition, or null if there is no 
+     * such row.
+     * @param x  expression to be evaluated
+     * @param offset  number of rows before the current row
+     * @param window  window over which the function is computed
+     * @return lag expression
+     * @since Java Persistence 3.0
+     */
+    <T> Expression<T> lag(Expression<T> x, int offset, Window window);
+
+    /**
+     * Create a window function expression returning the value
+     * of the argument for the row at the given offset after the
+     * current row within its partition, or null if there is no 
+     * such row.
+     * @param x  expression to be evaluated
+     * @param offset  number of rows after the current row
+     * @param window  window over which the function is computed
+     * @return lead expression
+     * @since Java Persistence 3.0
+     */
+    <T> Expression<T> lead(Expression<T> x, int offset, Window window);
 	
 
 
@@ -243,6 +447,144 @@ public interface CriteriaBuilder {
      */
     <Y> Expression<Y> any(Subquery<Y> subquery);
 
+    /**
+     * Create a predicate testing the existence of a compound
+     * subquery result.
+     * @param subquery  compound subquery whose result is to be tested
+     * @return exists predicate
+     * @since Java Persistence 3.0
+     */
+    Predicate exists(CompoundSubquery<?> subquery);
+
+    /**
+     * Create an all expression over the compound subquery results.
+     * @param subquery  compound subquery
+     * @return all expression
+     * @since Java Persistence 3.0
+     */
+    <Y> Expression<Y> all(CompoundSubquery<Y> subquery);
+
+    /**
+     * Create a some expression over the compound subquery results.
+     * This expression is equivalent to an <code>any</code> expression.
+     * @param subquery  compound subquery
+     * @return some expression
+     * @since Java Persistence 3.0
+     */
+    <Y> Expression<Y> some(CompoundSubquery<Y> subquery);
+
+    /**
+     * Create an any expression over the compound subquery results.
+     * This expression is equivalent to a <code>some</code> expression.
+     * @param subquery  compound subquery
+     * @return any expression
+     * @since Java Persistence 3.0
+     */
+    <Y> Expression<Y> any(CompoundSubquery<Y> subquery);
+
+
+    //set operations:
+
+    /**
+     * Create a compound query whose result is the union of the
+     * results of the given queries, with duplicates eliminated.
+     * @param left  left operand
+     * @param right  right operand
+     * @return compound query
+     * @throws IllegalArgumentException if the selections of the
+     *         operands are not compatible
+     * @since Java Persistence 3.0
+     */
+    <T> CompoundQuery<T> union(CriteriaSelect<? extends T> left, CriteriaSelect<? extends T> right);
+
+    /**
+     * Create a compound query whose result is the union of the
+     * results of the given queries, with duplicates retained.
+     * @param left  left operand
+     * @param right  right operand
+     * @return compound query
+     * @throws IllegalArgumentException if the selections of the
+     *         operands are not compatible
+     * @since Java Persistence 3.0
+     */
+    <T> CompoundQuery<T> unionAll(CriteriaSelect<? extends T> left, CriteriaSelect<? extends T> right);
+
+    /**
+     * Create a compound query whose result is the intersection of
+     * the results of the given queries.
+     * @param left  left operand
+     * @param right  right operand
+     * @return compound query
+     * @throws IllegalArgumentException if the selections of the
+     *         operands are not compatible
+     * @since Java Persistence 3.0
+     */
+    <T> CompoundQuery<T> intersect(CriteriaSelect<? extends T> left, CriteriaSelect<? extends T> right);
+
+    /**
+     * Create a compound query whose result contains the results
+     * of the left query that are not results of the right query.
+     * @param left  left operand
+     * @param right  right operand
+     * @return compound query
+     * @throws IllegalArgumentException if the selections of the
+     *         operands are not compatible
+     * @since Java Persistence 3.0
+     */
+    <T> CompoundQuery<T> except(CriteriaSelect<? extends T> left, CriteriaSelect<? extends T> right);
+
+    /**
+     * Create a compound subquery whose result is the union of the
+     * results of the given subqueries, with duplicates eliminated.
+     * Each operand may be a subquery or a compound subquery.
+     * @param left  left operand
+     * @param right  right operand
+     * @return compound subquery
+     * @throws IllegalArgumentException if the subqueries do not
+     *         belong to the same query
+     * @since Java Persistence 3.0
+     */
+    <T> CompoundSubquery<T> union(SubquerySelect<? extends T> left, SubquerySelect<? extends T> right);
+
+    /**
+     * Create a compound subquery whose result is the union of the
+     * results of the given subqueries, with duplicates retained.
+     * Each operand may be a subquery or a compound subquery.
+     * @param left  left operand
+     * @param right  right operand
+     * @return compound subquery
+     * @throws IllegalArgumentException if the subqueries do not
+     *         belong to the same query
+     * @since Java Persistence 3.0
+     */
+    <T> CompoundSubquery<T> unionAll(SubquerySelect<? extends T> left, SubquerySelect<? extends T> right);
+
+    /**
+     * Create a compound subquery whose result is the intersection
+     * of the results of the given subqueries.
+     * Each operand may be a subquery or a compound subquery.
+     * @param left  left operand
+     * @param right  right operand
+     * @return compound subquery
+     * @throws IllegalArgumentException if the subqueries do not
+     *         belong to the same query
+     * @since Java Persistence 3.0
+     */
+    <T> CompoundSubquery<T> intersect(SubquerySelect<? extends T> left, SubquerySelect<? extends T> right);
+
+    /**
+     * Create a compound subquery whose result contains the results
+     * of the left subquery that are not results of the right subquery.
+     * Each operand may be a subquery or a compound subquery.
+     * @param left  left operand
+     * @param right  right operand
+     * @return compound subquery
+     * @throws IllegalArgumentException if the subqueries do not
+     *         belong to the same query
+     * @since Java Persistence 3.0
+     */
+    <T> CompoundSubquery<T> except(SubquerySelect<? extends T> left, SubquerySelect<? extends T> right);
+
 
     //boolean functions:
 	
@@ -299,6 +641,86 @@ public interface CriteriaBuilder {
      */
     Predicate disjunction();
 
+    /**
+     * Create a simplified, normalized form of the given predicate.
+     * The predicate is rewritten as follows, repeatedly, until no
+     * further rewriting applies:
+     * <ul>
+     * <li> a negated conjunction with zero conjuncts is replaced by
+     * <code>disjunction()</code>, and a negated disjunction with zero
+     * disjuncts is replaced by <code>conjunction()</code>;
+     * <li> the operands of a non-negated conjunction (disjunction)
+     * that are themselves non-negated conjunctions (disjunctions)
+     * are replaced by their operands;
+     * <li> non-negated conjunctions with zero conjuncts are removed
+     * from conjunctions, and non-negated disjunctions with zero
+     * disjuncts are removed from disjunctions;
+     * <li> a non-negated conjunction with an operand that is a
+     * non-negated disjunction with zero disjuncts is replaced by
+     * <code>disjunction()</code>, and a non-negated disjunction with
+     * an operand that is a non-negated conjunction with zero
+     * conjuncts is replaced by <code>conjunction()</code>; if the
+     * enclosing conjunction (disjunction) is negated, it is replaced
+     * by <code>conjunction()</code> (<code>disjunction()</code>)
+     * instead;
+     * <li> operands of a conjunction or disjunction that are equal
+     * to a preceding operand, including the values of their literals
+     * and their parameters, are removed; operands that merely have
+     * the same structure, in the sense of {@link CriteriaFingerprint},
+     * are not removed;
+     * <li> a conjunction or disjunction with a single operand is
+     * replaced by that operand, negated if the conjunction or
+     * disjunction is negated;
+     * <li> a double negation is removed;
+     * <li> expressions contained in the predicate are simplified
+     * as by the <code>simplify(Expression)</code> method.
+     * </ul>
+     * The given predicate is not modified.  The operands of the
+     * resulting predicate may be inspected by means of the
+     * <code>getOperator</code>, <code>isNegated</code> and
+     * <code>getExpressions</code> methods of <code>Predicate</code>.
+     *
+     * <p> The persistence provider applies this simplification to
+     * the restrictions, group restrictions and join conditions of a
+     * criteria object when the criteria object is translated.
+     * @param restriction  predicate to be simplified
+     * @return simplified predicate
+     * @since Java Persistence 3.0
+     */
+    Predicate simplify(Predicate restriction);
+
+    /**
+     * Create a simplified form of the given expression, in which
+     * constant subexpressions are folded:
+     * <ul>
+     * <li> the <code>when</code> clauses of a general case
+     * expression whose condition simplifies to
+     * <code>disjunction()</code> are removed; then, if the first
+     * remaining clause has a condition that simplifies to
+     * <code>conjunction()</code>, the case expression is replaced
+     * by the result of that clause, and if no clauses remain, the
+     * case expression is replaced by the result of its
+     * <code>otherwise</code> clause, or by a null literal if it
+     * has none;
+     * <li> a simple case expression whose operand and
+     * <code>when</code> values are all literals is replaced by the
+     * result of the first matching <code>when</code> clause or, if
+     * no clause matches, of its <code>otherwise</code> clause, or by
+     * a null literal if it has none;
+     * <li> null literal arguments of a coalesce expression are
+     * removed, and the arguments following a non-null literal 
+     * argument are removed; a coalesce expression with a single
+     * argument is replaced by that argument;
+     * <li> predicates contained in the expression are simplified
+     * as by the <code>simplify(Predicate)</code> method.
+     * </ul>
+     * The given expression is not modified.
+     * @param x  expression to be simplified
+     * @return simplified expression
+     * @since Java Persistence 3.0
+     */
+    <T> Expression<T> simplify(Expression<T> x);
+
 	
     //turn Expression<Boolean> into a Predicate
     //useful for use with varargs methods
@@ -1238,6 +1660,8 @@ public interface CriteriaBuilder {
 	
     /**
      *  Interface used to build in predicates.
+     *  The translation of the predicate is determined by the
+     *  {@link jakarta.persistence.InListStrategy} in effect for the query.
      */
     public static interface In<T> extends Predicate {
 
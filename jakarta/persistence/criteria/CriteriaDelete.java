@@ -14,6 +14,7 @@
  ******************************************************************************/ 
 package jakarta.persistence.criteria;
 
+import java.util.List;
 import jakarta.persistence.metamodel.EntityType;
 
 /**
@@ -25,6 +26,14 @@ import jakarta.persistence.metamodel.EntityType;
  * with the result of the bulk delete.
  *
  * <p> A <code>CriteriaDelete</code> object must have a single root.
+ * The root may own inner and left outer joins to related entities,
+ * which may be used in the restriction; only the entity that is the
+ * root of the delete is deleted.
+ *
+ * <p> If a returning clause is specified, the selected values of the
+ * deleted rows are returned by the <code>getResultList</code> and
+ * <code>getResultStream</code> methods of the query created for the
+ * delete.
  *
  * @param <T>  the entity type that is the target of the delete
  *
@@ -81,4 +90,31 @@ public interface CriteriaDelete<T> extends CommonAbstractCriteria {
      */
    CriteriaDelete<T> where(Predicate... restrictions);
 
+   /**
+    * Specify the values to be returned for each row affected by the
+    * delete operation.
+    * Replaces the previously specified returning clause, if any.
+    * If no selection items are specified, the returning clause
+    * is removed.
+    * Each selection item must be a path or expression based on
+    * the root or its joins.  A single selection item yields an
+    * object per row, and several selection items yield an 
+    * <code>Object[]</code> per row.
+    * @param selections  zero or more selection items
+    * @return the modified delete query
+    * @throws IllegalArgumentException if a selection item is 
+    *         not valid
+    * @since Java Persistence 3.0
+    */
+   CriteriaDelete<T> returning(Selection<?>... selections);
+
+   /**
+    * Return the selection items of the returning clause.
+    * Returns empty list if no returning clause has been specified.
+    * Modifications to the list do not affect the query.
+    * @return the list of selection items
+    * @since Java Persistence 3.0
+    */
+   List<Selection<?>> getReturning();
+
 }
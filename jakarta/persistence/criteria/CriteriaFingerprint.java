@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+import java.util.List;
+
+/**
+ * A canonical, structural identity of a criteria query, compound
+ * query, subquery, or insert, update or delete operation.
+ *
+ * <p> Two criteria objects have equal fingerprints if and only if they
+ * have the same structure, in the same order.  The structure of a
+ * criteria object comprises:
+ * <ul>
+ * <li> its roots, including derived roots and references to common
+ * table expressions, and its joins, fetches and paths;
+ * <li> its common table expressions, and whether they are recursive;
+ * <li> its selections, including the presence of a
+ * <code>distinct</code> modifier and of a returning clause;
+ * <li> its restrictions, groupings, group restrictions and orderings;
+ * <li> the presence of a limit and of an offset, and whether the
+ * limit includes ties;
+ * <li> the set operators and operands of compound queries and
+ * compound subqueries;
+ * <li> the assignments of a criteria update operation;
+ * <li> the values, source, target paths and conflict clause of a
+ * criteria insert operation;
+ * <li> the {@link CriteriaHint hints} of the query and of its roots
+ * and joins, including their values, since hints affect the
+ * translated query;
+ * <li> the structure of its subqueries, including derived roots
+ * and joins.
+ * </ul>
+ * Criteria objects that were built separately may therefore have
+ * equal fingerprints.
+ *
+ * <p> The {@link LiteralHandlingMode literal handling mode} in effect
+ * for the criteria object contributes to the fingerprint.  Under
+ * <code>LiteralHandlingMode.INLINE</code>, literal values are rendered
+ * into the translated query, and therefore also contribute to the
+ * fingerprint.  Under <code>LiteralHandlingMode.BIND</code>, a
+ * fingerprint is literal-independent and parameter-aware:
+ * <ul>
+ * <li> The values of literals (including values passed to
+ * <code>CriteriaBuilder</code> methods that accept an
+ * <code>Object</code> argument, and the values of a limit or
+ * offset) do not contribute to the fingerprint; only their
+ * position and Java type do, together with those properties
+ * of a literal value that may affect the translated query:
+ * whether the value is null, and, for a collection of values such
+ * as that passed to <code>Expression.in(Collection)</code>, its
+ * number of elements to the extent that the
+ * {@link jakarta.persistence.InListStrategy} in effect for the
+ * persistence unit depends on it: the number of elements under
+ * <code>EXPAND</code>, the padded number of elements under
+ * <code>PAD</code>, the number of chunks and the padded number of
+ * elements of the last chunk under <code>CHUNK</code>, and nothing
+ * under <code>ARRAY</code>.  The values of these
+ * literals are available from {@link #getLiteralValues()}.
+ * <li> A literal that the persistence provider renders inline, because
+ * the database does not permit a bind parameter in its position,
+ * contributes its value to the fingerprint, as under
+ * <code>LiteralHandlingMode.INLINE</code>, and is not included in
+ * the values returned by {@link #getLiteralValues()}.
+ * <li> Parameter expressions contribute their name (if any),
+ * their position in the tree, and their Java type.
+ * </ul>
+ *
+ * <p> A fingerprint is therefore suitable as the key of a cache of
+ * translated queries maintained by the persistence provider.  Under
+ * <code>LiteralHandlingMode.BIND</code>, the literal values are bound
+ * to the translated query at execution time, so that criteria
+ * objects that differ only in their literal values share a
+ * translation.  The translation may in addition depend on the
+ * number of values bound to a collection-valued parameter, and on the
+ * hints and properties in effect for the query, such as an
+ * <code>InListStrategy</code> that differs from that of the
+ * persistence unit, which the persistence provider must take into
+ * account when it looks up a translation.
+ * A fingerprint does not retain the criteria
+ * object from which it was computed, and remains unchanged if that
+ * object is subsequently modified.
+ *
+ * @see CommonAbstractCriteria#getFingerprint()
+ * @see CompoundQuery#getFingerprint()
+ *
+ * @since Java Persistence 3.0
+ */
+public interface CriteriaFingerprint {
+
+    /**
+     * Return the values of the literals that were excluded from
+     * the fingerprint, in the order in which they occur in the
+     * criteria object.  Returns an empty list under
+     * <code>LiteralHandlingMode.INLINE</code>, since literal values
+     * then contribute to the fingerprint.  Under
+     * <code>LiteralHandlingMode.BIND</code>, the values of literals
+     * rendered inline are not included.
+     * @return list of literal values
+     */
+    List<Object> getLiteralValues();
+
+    /**
+     * Indicates whether the given object is a fingerprint of a
+     * criteria object with the same structure.
+     * @param obj  object to compare
+     * @return boolean indicating whether the fingerprints are equal
+     */
+    @Override
+    boolean equals(Object obj);
+
+    /**
+     * Return a hash code that is consistent with
+     * <code>equals</code>.
+     * @return hash code of the fingerprint
+     */
+    @Override
+    int hashCode();
+}
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+import jakarta.persistence.Index;
+
+/**
+ * A typed, portable optimizer hint that is attached to a criteria
+ * query, or to a root or join of a criteria query.
+ *
+ * <p> Hints are created by means of the static factory methods of
+ * this class, and are translated by the persistence provider to the
+ * corresponding optimizer hints or statement settings of the database
+ * in use.  As with the hints passed to <code>Query.setHint</code>,
+ * a hint that cannot be observed for the database in use must be
+ * silently ignored.  For example:
+ *
+ * <pre>
+ *     Root&#060;Order&#062; order = q.from(Order.class);
+ *     order.hint(CriteriaHint.useIndex("IDX_ORDER_DATE"));
+ *     order.join(Order_.customer).hint(CriteriaHint.joinMethod(CriteriaHint.JoinMethod.HASH));
+ *     q.hint(CriteriaHint.readOnly(), CriteriaHint.fetchSize(500));
+ * </pre>
+ *
+ * <p> Hints are immutable values and may be shared between queries.
+ * The hints of a query and of its roots and joins contribute to the
+ * {@link CriteriaFingerprint fingerprint} of the query, so that
+ * queries that differ only in their hints do not share a translation.
+ *
+ * @see CriteriaQuery#hint(CriteriaHint...)
+ * @see From#hint(CriteriaHint...)
+ *
+ * @since Java Persistence 3.0
+ */
+public final class CriteriaHint {
+
+    /**
+     * Defines the kinds of criteria hints.
+     */
+    public static enum Type {
+
+        /**
+         * Access the table of a root or join by means of the named
+         * index.  Value: the index name, a <code>String</code>.
+         */
+        USE_INDEX,
+
+        /**
+         * Perform a join by means of the given join method.
+         * Value: a <code>JoinMethod</code>.
+         */
+        JOIN_METHOD,
+
+        /**
+         * Execute the query with the given degree of parallelism.
+         * Value: an <code>Integer</code>.
+         */
+        PARALLEL,
+
+        /**
+         * Execute the query as a read-only statement; entities
+         * returned by the query are not checked for changes at flush.
+         * Value: <code>Boolean.TRUE</code>.
+         */
+        READ_ONLY,
+
+        /**
+         * Fetch the given number of rows from the database per round
+         * trip.  Value: an <code>Integer</code>.
+         */
+        FETCH_SIZE
+    }
+
+    /**
+     * Defines the join methods of the <code>JOIN_METHOD</code> hint.
+     */
+    public static enum JoinMethod {
+
+        /** Nested loop join. */
+        NESTED_LOOP,
+
+        /** Hash join. */
+        HASH,
+
+        /** Sort-merge join. */
+        MERGE
+    }
+
+    private final Type type;
+
+    private final Object value;
+
+    private CriteriaHint(Type type, Object value) {
+        this.type = type;
+        this.value = value;
+    }
+
+    /**
+     * Create a hint to access the table of a root or join by means
+     * of the named index.
+     * @param indexName  name of the index
+     * @return use-index hint
+     * @throws IllegalArgumentException if the index name is null
+     *         or empty
+     */
+    public static CriteriaHint useIndex(String indexName) {
+        if (indexName == null || indexName.isEmpty()) {
+            throw new IllegalArgumentException("Index name must be specified");
+        }
+        return new CriteriaHint(Type.USE_INDEX, indexName);
+    }
+
+    /**
+     * Create a hint to access the table of a root or join by means
+     * of the given index, as defined by the <code>indexes</code>
+     * element of the <code>Table</code> annotation of the entity.
+     * @param index  index definition, which must specify a name
+     * @return use-index hint
+     * @throws IllegalArgumentException if the index does not
+     *         specify a name
+     */
+    public static CriteriaHint useIndex(Index index) {
+        if (index == null) {
+            throw new IllegalArgumentException("Index must be specified");
+        }
+        return useIndex(index.name());
+    }
+
+    /**
+     * Create a hint to perform a join by means of the given join
+     * method.
+     * @param method  join method
+     * @return join method hint
+     * @throws IllegalArgumentException if the join method is null
+     */
+    public static CriteriaHint joinMethod(JoinMethod method) {
+        if (method == null) {
+            throw new IllegalArgumentException("Join method must be specified");
+        }
+        return new CriteriaHint(Type.JOIN_METHOD, method);
+    }
+
+    /**
+     * Create a hint to execute the query with the given degree of
+     * parallelism.
+     * @param degree  degree of parallelism
+     * @return parallel hint
+     * @throws IllegalArgumentException if the degree is less than 1
+     */
+    public static CriteriaHint parallel(int degree) {
+        if (degree < 1) {
+            throw new IllegalArgumentException("Degree of parallelism must be positive: " + degree);
+        }
+        return new CriteriaHint(Type.PARALLEL, degree);
+    }
+
+    /**
+     * Create a hint to execute the query as a read-only statement.
+     * @return read-only hint
+     */
+    public static CriteriaHint readOnly() {
+        return new CriteriaHint(Type.READ_ONLY, Boolean.TRUE);
+    }
+
+    /**
+     * Create a hint to fetch the given number of rows per round trip.
+     * @param rows  number of rows
+     * @return fetch size hint
+     * @throws IllegalArgumentException if the number of rows is
+     *         less than 1
+     */
+    public static CriteriaHint fetchSize(int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("Fetch size must be positive: " + rows);
+        }
+        return new CriteriaHint(Type.FETCH_SIZE, rows);
+    }
+
+    /**
+     * Return the kind of the hint.
+     * @return hint type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Return the value of the hint, as described by its type.
+     * @return hint value
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Return whether the hint applies to a root or join, rather than
+     * to the query as a whole.
+     * @return boolean indicating whether the hint applies to a
+     *         root or join
+     */
+    public boolean isFromHint() {
+        return type == Type.USE_INDEX || type == Type.JOIN_METHOD;
+    }
+
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CriteriaHint)) {
+            return false;
+        }
+        CriteriaHint otherHint = (CriteriaHint) other;
+        return type == otherHint.type && value.equals(otherHint.value);
+    }
+
+    public int hashCode() {
+        return 31 * type.hashCode() + value.hashCode();
+    }
+
+    public String toString() {
+        return type + "(" + value + ")";
+    }
+}
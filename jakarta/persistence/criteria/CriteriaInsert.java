@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+import java.util.List;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.EntityType;
+
+/**
+ * The <code>CriteriaInsert</code> interface defines functionality for
+ * performing insert operations, including upserts, using the
+ * Criteria API.
+ *
+ * <p>Criteria API insert operations map directly to a single database
+ * insert statement, bypassing any optimistic locking checks and
+ * entity lifecycle callbacks.  If a conflict action other than
+ * <code>ERROR</code> is specified, the statement maps to the native
+ * upsert statement of the database (such as <code>INSERT ... ON
+ * CONFLICT</code> or <code>MERGE</code>), so that a row is inserted
+ * or updated in one round trip.  Portable applications must assign
+ * the value of the version attribute, if any, explicitly.
+ * The persistence context is not synchronized with the result of the
+ * insert.  When the transaction commits, the cached results of queries
+ * that reference the target entity are evicted from the second-level
+ * cache, as for bulk update and delete operations; if the conflict
+ * action is <code>UPDATE</code>, the cached data of the target entity,
+ * including its cached mappings from natural identifier to primary
+ * key, is evicted as well.
+ *
+ * <p> The inserted rows are specified either by assigning attribute
+ * values by means of the <code>value</code> methods, which inserts a
+ * single row, or by a source query by means of the <code>select</code>
+ * method, which inserts a row for each result of the source query
+ * (<code>INSERT ... SELECT</code>).  In the latter case the statement
+ * is executed entirely by the database, without reading the source
+ * rows into the persistence context.  For example, orders are
+ * archived by:
+ *
+ * <pre>
+ *     CriteriaInsert&#060;ArchivedOrder&#062; insert = cb.createCriteriaInsert(ArchivedOrder.class);
+ *     Root&#060;ArchivedOrder&#062; archived = insert.from(ArchivedOrder.class);
+ *     Subquery&#060;Object[]&#062; source = insert.subquery(Object[].class);
+ *     Root&#060;Order&#062; order = source.from(Order.class);
+ *     source.multiselect(order.get(Order_.id).alias("id"), order.get(Order_.total).alias("total"))
+ *           .where(cb.lessThan(order.get(Order_.date), cutoff));
+ *     insert.select(source, archived.get(ArchivedOrder_.id), archived.get(ArchivedOrder_.total));
+ *     int archivedCount = em.createQuery(insert).executeUpdate();
+ * </pre>
+ *
+ * <p> A <code>CriteriaInsert</code> object must have a single root,
+ * the entity that is the target of the insert.  The 
+ * <code>getRestriction</code> method of a <code>CriteriaInsert</code>
+ * object returns null.
+ *
+ * @param <T>  the entity type that is the target of the insert
+ *
+ * @since Java Persistence 3.0
+ */
+public interface CriteriaInsert<T> extends CommonAbstractCriteria {
+
+   /**
+    * Create and add a query root corresponding to the entity
+    * that is the target of the insert.
+    * A <code>CriteriaInsert</code> object has a single root, the entity 
+    * that is being inserted.
+    * @param entityClass  the entity class
+    * @return query root corresponding to the given entity
+    */
+   Root<T> from(Class<T> entityClass);
+
+   /**
+    * Create and add a query root corresponding to the entity
+    * that is the target of the insert.
+    * A <code>CriteriaInsert</code> object has a single root, the entity 
+    * that is being inserted.
+    * @param entity  metamodel entity representing the entity
+    *                of type X
+    * @return query root corresponding to the given entity
+    */
+   Root<T> from(EntityType<T> entity);
+
+   /**
+    * Return the query root.
+    * @return the query root
+    */
+   Root<T> getRoot();
+
+   /**
+    * Assign the value of the specified attribute of the inserted row.
+    * @param attribute  attribute to be assigned
+    * @param value  value
+    * @return  the modified insert query
+    * @throws IllegalStateException if a source query has been
+    *         specified
+    */
+   <Y, X extends Y> CriteriaInsert<T> value(SingularAttribute<? super T, Y> attribute, X value);
+
+   /**
+    * Assign the value of the specified attribute of the inserted row.
+    * @param attribute  attribute to be assigned
+    * @param value  value
+    * @return  the modified insert query
+    * @throws IllegalStateException if a source query has been
+    *         specified
+    */
+   <Y> CriteriaInsert<T> value(SingularAttribute<? super T, Y> attribute, Expression<? extends Y> value);
+
+   /**
+    * Assign the value of the specified attribute of the inserted row.
+    * @param attribute  attribute to be assigned
+    * @param value  value
+    * @return  the modified insert query
+    * @throws IllegalStateException if a source query has been
+    *         specified
+    */
+   <Y, X extends Y> CriteriaInsert<T> value(Path<Y> attribute, X value);
+
+   /**
+    * Assign the value of the specified attribute of the inserted row.
+    * @param attribute  attribute to be assigned
+    * @param value  value
+    * @return  the modified insert query
+    * @throws IllegalStateException if a source query has been
+    *         specified
+    */
+   <Y> CriteriaInsert<T> value(Path<Y> attribute, Expression<? extends Y> value);
+
+   /**
+    * Assign the value of the specified attribute of the inserted row.
+    * @param attributeName  name of the attribute to be assigned
+    * @param value  value
+    * @return  the modified insert query
+    * @throws IllegalStateException if a source query has been
+    *         specified
+    */
+   CriteriaInsert<T> value(String attributeName, Object value);
+
+   /**
+    * Specify a query whose results are inserted, one row per
+    * result.
+    * The selection items of the source query are assigned, in
+    * order, to the given attributes of the target entity.
+    * Replaces the previously specified source query, if any.
+    * The source query may be a <code>CriteriaQuery</code>, or a 
+    * <code>Subquery</code> created by this insert query.
+    * @param source  source query
+    * @param targets  paths of the attributes to be assigned
+    * @return  the modified insert query
+    * @throws IllegalArgumentException if the number of selection
+    *         items of the source query differs from the number of
+    *         attributes, or their types are not compatible
+    * @throws IllegalStateException if attribute values have been
+    *         assigned by means of a <code>value</code> method
+    */
+   CriteriaInsert<T> select(AbstractQuery<?> source, Path<?>... targets);
+
+   /**
+    * Specify a query whose results are inserted, one row per
+    * result.
+    * The selection items of the source query are assigned, in
+    * order, to the given attributes of the target entity.
+    * Replaces the previously specified source query, if any.
+    * The source query may be a <code>CriteriaQuery</code>, or a 
+    * <code>Subquery</code> created by this insert query.
+    * @param source  source query
+    * @param targets  list of paths of the attributes to be assigned
+    * @return  the modified insert query
+    * @throws IllegalArgumentException if the number of selection
+    *         items of the source query differs from the number of
+    *         attributes, or their types are not compatible
+    * @throws IllegalStateException if attribute values have been
+    *         assigned by means of a <code>value</code> method
+    */
+   CriteriaInsert<T> select(AbstractQuery<?> source, List<Path<?>> targets);
+
+   /**
+    * Return the source query, or null if no source query has been
+    * specified.
+    * @return source query
+    */
+   AbstractQuery<?> getSource();
+
+   /**
+    * Return the paths of the attributes to which the selection
+    * items of the source query are assigned.  Returns empty list 
+    * if no source query has been specified.
+    * Modifications to the list do not affect the query.
+    * @return list of target attribute paths
+    */
+   List<Path<?>> getTargets();
+
+   /**
+    * Specify the action to be taken when the row to be inserted
+    * conflicts with an existing row on the given attributes.
+    * Replaces the previously specified conflict action, if any.
+    * If no attributes are specified, the conflict target is the 
+    * primary key of the entity.
+    * @param action  conflict action
+    * @param conflictTarget  paths of the attributes that make up a
+    *        primary or unique key of the entity
+    * @return  the modified insert query
+    * @throws IllegalArgumentException if the attributes do not
+    *         correspond to a primary or unique key
+    */
+   CriteriaInsert<T> onConflict(ConflictAction action, Path<?>... conflictTarget);
+
+   /**
+    * Return the conflict action.  Returns <code>ERROR</code> if no
+    * conflict action has been specified.
+    * @return conflict action
+    */
+   ConflictAction getConflictAction();
+
+   /**
+    * Return the paths of the attributes that make up the conflict
+    * target.  Returns empty list if the conflict target is the
+    * primary key.
+    * Modifications to the list do not affect the query.
+    * @return list of conflict target paths
+    */
+   List<Path<?>> getConflictTarget();
+}
@@ -17,6 +17,7 @@ package jakarta.persistence.criteria;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * The <code>CriteriaQuery</code> interface defines functionality that is specific 
@@ -26,7 +27,7 @@ import java.util.Set;
  *
  * @since Java Persistence 2.0
  */
-public interface CriteriaQuery<T> extends AbstractQuery<T> {
+public interface CriteriaQuery<T> extends AbstractQuery<T>, CriteriaSelect<T> {
 	
     /**
      * Specify the item that is to be returned in the query result.
@@ -297,6 +298,50 @@ public interface CriteriaQuery<T> extends AbstractQuery<T> {
      * @return the modified query.
      */
     CriteriaQuery<T> distinct(boolean distinct);
+
+    /**
+     * Set the maximum number of results of the query.
+     * Replaces the previous limit, if any.
+     * The <code>setFirstResult</code> and <code>setMaxResults</code>
+     * methods of the query instance created from this query further
+     * restrict the limited result.
+     * This method only overrides the return type of the 
+     * corresponding <code>AbstractQuery</code> method.
+     * @param maxResults  maximum number of results
+     * @return the modified query
+     * @throws IllegalArgumentException if the argument is negative
+     * @since Java Persistence 3.0
+     */
+    CriteriaQuery<T> limit(int maxResults);
+
+    /**
+     * Set the maximum number of results of the query, including
+     * in addition any further results that are equal to the last 
+     * of them according to the ordering of the query.
+     * Replaces the previous limit, if any.
+     * This method only overrides the return type of the 
+     * corresponding <code>AbstractQuery</code> method.
+     * @param maxResults  maximum number of results, not counting ties
+     * @return the modified query
+     * @throws IllegalArgumentException if the argument is negative
+     * @throws IllegalStateException if the query has no ordering
+     *         when it is executed
+     * @since Java Persistence 3.0
+     */
+    CriteriaQuery<T> limitWithTies(int maxResults);
+
+    /**
+     * Set the position of the first result of the query to be
+     * returned, numbered from 0.
+     * Replaces the previous offset, if any.
+     * This method only overrides the return type of the 
+     * corresponding <code>AbstractQuery</code> method.
+     * @param firstResult  position of the first result
+     * @return the modified query
+     * @throws IllegalArgumentException if the argument is negative
+     * @since Java Persistence 3.0
+     */
+    CriteriaQuery<T> offset(int firstResult);
     
     /**
      * Return the ordering expressions in order of precedence.
@@ -314,4 +359,85 @@ public interface CriteriaQuery<T> extends AbstractQuery<T> {
      * @return the query parameters
      */
     Set<ParameterExpression<?>> getParameters();
+
+    /**
+     * Define a common table expression in the <code>WITH</code>
+     * clause of the query.
+     * The subquery must have been created by this query, and its
+     * selection item must be an entity.
+     * @param name  name of the common table expression, which
+     *        must be unique within the query
+     * @param definition  subquery defining the common table expression
+     * @return common table expression
+     * @throws IllegalArgumentException if the name is already used
+     *         by another common table expression of the query, or
+     *         if the subquery is not valid
+     * @since Java Persistence 3.0
+     */
+    <X> CommonTableExpression<X> with(String name, Subquery<X> definition);
+
+    /**
+     * Define a recursive common table expression in the 
+     * <code>WITH</code> clause of the query.
+     * The given function is invoked with the new common table 
+     * expression and returns the recursive subquery, which must
+     * use the common table expression as one of its roots.
+     * The results of the anchor and recursive subqueries are
+     * combined as by <code>UNION ALL</code>.
+     * @param name  name of the common table expression, which
+     *        must be unique within the query
+     * @param anchor  subquery defining the initial rows
+     * @param recursiveDefinition  function returning the recursive
+     *        subquery
+     * @return common table expression
+     * @throws IllegalArgumentException if the name is already used
+     *         by another common table expression of the query, or
+     *         if either subquery is not valid
+     * @since Java Persistence 3.0
+     */
+    <X> CommonTableExpression<X> withRecursive(String name, Subquery<X> anchor,
+            Function<? super CommonTableExpression<X>, ? extends Subquery<X>> recursiveDefinition);
+
+    /**
+     * Return the common table expressions of the query, in the
+     * order in which they were defined.  Returns empty list if no
+     * common table expressions have been defined.
+     * Modifications to the list do not affect the query.
+     * @return the list of common table expressions
+     * @since Java Persistence 3.0
+     */
+    List<CommonTableExpression<?>> getCommonTableExpressions();
+
+    /**
+     * Add the given hints to the query.
+     * The hints contribute to the {@link #getFingerprint() fingerprint}
+     * of the query.
+     * @param hints  query hints
+     * @return the modified query
+     * @throws IllegalArgumentException if a hint applies only to 
+     *         a root or join
+     * @since Java Persistence 3.0
+     */
+    CriteriaQuery<T> hint(CriteriaHint... hints);
+
+    /**
+     * Return the hints that have been added to the query.
+     * Returns empty list if no hints have been added.
+     * Modifications to the list do not affect the query.
+     * @return the list of query hints
+     * @since Java Persistence 3.0
+     */
+    List<CriteriaHint> getHints();
+
+    /**
+     * Create an immutable, thread-safe compiled form of the query
+     * in its current state.
+     * Subsequent modifications of the query do not affect the
+     * compiled query.
+     * @return the compiled query
+     * @throws IllegalStateException if the query is not valid,
+     *         for example because it has no roots
+     * @since Java Persistence 3.0
+     */
+    CompiledCriteriaQuery<T> compile();
 }
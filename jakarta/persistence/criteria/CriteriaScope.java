@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+/**
+ * A <code>CriteriaBuilder</code> whose criteria objects, expressions,
+ * predicates and paths are allocated from storage owned by the scope,
+ * so that the persistence provider may pool and reuse them across
+ * scopes instead of allocating them anew for each query.
+ *
+ * <p> A scope is obtained by means of the <code>scope</code> method of
+ * <code>CriteriaBuilder</code>, is intended for use by a single thread,
+ * and must be closed when the queries built within it are no longer
+ * needed.  The objects created by means of the scope, including
+ * objects created by the criteria queries it creates, must not be
+ * used after the scope has been closed.  Query instances created from
+ * those criteria queries by means of <code>EntityManager.createQuery</code>,
+ * and compiled queries created by means of
+ * <code>CriteriaQuery.compile</code>, remain valid.
+ *
+ * <p> Within a scope, the persistence provider may also return a
+ * shared path instance from repeated invocations of
+ * <code>Path.get(SingularAttribute)</code> with the same attribute.
+ * Shared paths are immutable: their <code>alias</code> method returns
+ * a new selection item, which must be used in place of the path.
+ * Criteria objects created by a <code>CriteriaBuilder</code> that is
+ * not a scope never share paths, and <code>alias</code> returns the
+ * same selection item.
+ *
+ * <pre>
+ *     try (CriteriaScope cb = em.getCriteriaBuilder().scope()) {
+ *         CriteriaQuery&#060;Product&#062; q = cb.createQuery(Product.class);
+ *         ...
+ *         return em.createQuery(q).getResultList();
+ *     }
+ * </pre>
+ *
+ * @since Java Persistence 3.0
+ */
+public interface CriteriaScope extends CriteriaBuilder, AutoCloseable {
+
+    /**
+     * Return whether the scope is open.
+     * @return boolean indicating whether the scope is open
+     */
+    boolean isOpen();
+
+    /**
+     * Close the scope and release the objects created within it for
+     * reuse.  Closing a scope that is already closed has no effect.
+     */
+    void close();
+}
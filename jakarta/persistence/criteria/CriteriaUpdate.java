@@ -14,6 +14,7 @@
  ******************************************************************************/ 
 package jakarta.persistence.criteria;
 
+import java.util.List;
 import jakarta.persistence.metamodel.SingularAttribute;
 import jakarta.persistence.metamodel.EntityType;
 
@@ -30,6 +31,15 @@ import jakarta.persistence.metamodel.EntityType;
  * bulk update.
  *
  * <p> A <code>CriteriaUpdate</code> object must have a single root.
+ * The root may own inner and left outer joins to related entities,
+ * which may be used in the restriction and in the new values; only
+ * the entity that is the root of the update is updated.
+ *
+ * <p> If a returning clause is specified, the selected values of the
+ * updated rows, after the update, are returned by the 
+ * <code>getResultList</code> and <code>getResultStream</code> methods
+ * of the query created for the update, so that no further query is
+ * needed to learn what changed.
  *
  * @param <T>  the entity type that is the target of the update
  *
@@ -124,4 +134,31 @@ public interface CriteriaUpdate<T> extends CommonAbstractCriteria {
      * @return the modified update query
      */
    CriteriaUpdate<T> where(Predicate... restrictions);
+
+   /**
+    * Specify the values to be returned for each row affected by the
+    * update operation.
+    * Replaces the previously specified returning clause, if any.
+    * If no selection items are specified, the returning clause
+    * is removed.
+    * Each selection item must be a path or expression based on
+    * the root or its joins.  A single selection item yields an
+    * object per row, and several selection items yield an 
+    * <code>Object[]</code> per row.
+    * @param selections  zero or more selection items
+    * @return the modified update query
+    * @throws IllegalArgumentException if a selection item is 
+    *         not valid
+    * @since Java Persistence 3.0
+    */
+   CriteriaUpdate<T> returning(Selection<?>... selections);
+
+   /**
+    * Return the selection items of the returning clause.
+    * Returns empty list if no returning clause has been specified.
+    * Modifications to the list do not affect the query.
+    * @return the list of selection items
+    * @since Java Persistence 3.0
+    */
+   List<Selection<?>> getReturning();
 }
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+/**
+ * A join whose target is a subquery or compound subquery (a derived
+ * table) rather than an attribute.
+ *
+ * <p> A derived join is created by means of the <code>join(SubquerySelect, JoinType)</code>
+ * or <code>joinLateral(SubquerySelect, JoinType)</code> method of
+ * <code>From</code>, and its join condition is specified by means of
+ * the <code>on</code> method.
+ * A lateral join is evaluated once for each row of the
+ * <code>From</code> object from which it was made, and its subquery
+ * may therefore refer to that <code>From</code> object.  For example,
+ * the three most recent orders of each customer are obtained by:
+ *
+ * <pre>
+ *     CriteriaQuery&#060;Tuple&#062; q = cb.createTupleQuery();
+ *     Root&#060;Customer&#062; customer = q.from(Customer.class);
+ *     Subquery&#060;Order&#062; recent = q.subquery(Order.class);
+ *     Root&#060;Order&#062; order = recent.from(Order.class);
+ *     recent.select(order)
+ *           .where(cb.equal(order.get(Order_.customer), customer))
+ *           .orderBy(cb.desc(order.get(Order_.date)))
+ *           .limit(3);
+ *     q.multiselect(customer, customer.joinLateral(recent, JoinType.INNER));
+ * </pre>
+ *
+ * <p> The <code>getAttribute</code> method of a derived join returns null.
+ *
+ * @param <Z> the source type of the join
+ * @param <X> the type of the rows of the derived table
+ *
+ * @since Java Persistence 3.0
+ */
+public interface DerivedJoin<Z, X> extends Join<Z, X> {
+
+    /**
+     * Return the subquery that is the target of the join.
+     * @return subquery
+     */
+    SubquerySelect<X> getQuery();
+
+    /**
+     * Return whether the join is a lateral join.
+     * @return boolean indicating whether the join is lateral
+     */
+    boolean isLateral();
+}
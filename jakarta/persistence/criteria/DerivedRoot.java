@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+/**
+ * A query root whose source is a subquery or compound subquery
+ * (a derived table) rather than an entity.
+ *
+ * <p> A derived root is created by means of the
+ * <code>from(SubquerySelect)</code> method of <code>AbstractQuery</code>.
+ * If the subquery selects an entity, the derived root may be used
+ * to navigate the attributes of that entity.  Otherwise, the
+ * selection items of the subquery are obtained by means of the
+ * <code>get(String)</code> method, passing the alias assigned to
+ * the selection item.
+ *
+ * @param <X> the type of the rows of the derived table
+ *
+ * @see AbstractQuery#from(SubquerySelect)
+ *
+ * @since Java Persistence 3.0
+ */
+public interface DerivedRoot<X> extends From<X, X> {
+
+    /**
+     * Return the subquery that is the source of the derived root.
+     * @return subquery
+     */
+    SubquerySelect<X> getQuery();
+}
@@ -58,6 +58,8 @@ public interface Expression<T> extends Selection<T> {
     /**
      * Create a predicate to test whether the expression is a member
      * of the collection.
+     * The translation of the predicate is determined by the
+     * {@link jakarta.persistence.InListStrategy} in effect for the query.
      * @param values  collection of values to be tested against
      * @return predicate testing for membership
      */
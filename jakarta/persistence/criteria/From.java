@@ -20,6 +20,7 @@ import jakarta.persistence.metamodel.CollectionAttribute;
 import jakarta.persistence.metamodel.ListAttribute;
 import jakarta.persistence.metamodel.MapAttribute;
 import jakarta.persistence.metamodel.SetAttribute;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -66,6 +67,28 @@ public interface From<Z, X> extends Path<X>, FetchParent<Z, X> {
      */
     From<Z, X> getCorrelationParent();
 
+    /**
+     *  Add the given hints to the <code>From</code> object.
+     *  A join method hint may only be added to a join.
+     *  The hints contribute to the fingerprint of the query.
+     *  @param hints  hints applying to the root or join
+     *  @return the same <code>From</code> object
+     *  @throws IllegalArgumentException if a hint does not apply
+     *          to this <code>From</code> object
+     *  @since Java Persistence 3.0
+     */
+    From<Z, X> hint(CriteriaHint... hints);
+
+    /**
+     *  Return the hints that have been added to the 
+     *  <code>From</code> object.  Returns empty list if no hints
+     *  have been added.
+     *  Modifications to the list do not affect the query.
+     *  @return hints of this <code>From</code> object
+     *  @since Java Persistence 3.0
+     */
+    List<CriteriaHint> getHints();
+
     /**
      *  Create an inner join to the specified single-valued 
      *  attribute.
@@ -261,4 +284,32 @@ public interface From<Z, X> extends Path<X>, FetchParent<Z, X> {
      *          name does not exist
      */
     <X, K, V> MapJoin<X, K, V> joinMap(String attributeName, JoinType jt);	
+
+    /**
+     *  Create a join to the specified subquery or compound subquery,
+     *  used as a derived table, using the given join type.
+     *  The join condition is specified by means of the 
+     *  <code>on</code> method of the resulting join.
+     *  @param subquery  subquery defining the derived table
+     *  @param jt  join type
+     *  @return the resulting join
+     *  @throws IllegalArgumentException if the join type is
+     *          <code>RIGHT</code>
+     *  @since Java Persistence 3.0
+     */
+    <Y> DerivedJoin<X, Y> join(SubquerySelect<Y> subquery, JoinType jt);
+
+    /**
+     *  Create a lateral join to the specified subquery or compound
+     *  subquery using the given join type.  The subquery may refer to this 
+     *  <code>From</code> object and to the objects from which it
+     *  was obtained, and is evaluated once for each of their rows.
+     *  @param subquery  subquery defining the derived table
+     *  @param jt  join type
+     *  @return the resulting join
+     *  @throws IllegalArgumentException if the join type is
+     *          <code>RIGHT</code>
+     *  @since Java Persistence 3.0
+     */
+    <Y> DerivedJoin<X, Y> joinLateral(SubquerySelect<Y> subquery, JoinType jt);
 }
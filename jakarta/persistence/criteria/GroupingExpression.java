@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+import java.util.List;
+
+/**
+ * The <code>GroupingExpression</code> interface defines a grouping
+ * element of the <code>GROUP BY</code> clause that specifies several
+ * groupings, so that summaries at several levels are computed by a
+ * single query.
+ *
+ * <p> Grouping expressions are created by means of the
+ * <code>rollup</code>, <code>cube</code>, <code>groupingSets</code> and
+ * <code>groupingSet</code> methods of <code>CriteriaBuilder</code>, and
+ * may only be used as arguments of the <code>groupBy</code> method of
+ * a query or as operands of another grouping expression.  For example,
+ * totals per region and country, per region, and overall are computed by:
+ *
+ * <pre>
+ *     q.multiselect(region, country, cb.sum(amount), cb.grouping(region, country))
+ *      .groupBy(cb.rollup(region, country));
+ * </pre>
+ *
+ * <p> In the result rows of a summary, the grouping expressions that
+ * do not take part in the grouping are null; the <code>grouping</code>
+ * method of <code>CriteriaBuilder</code> distinguishes these from
+ * null values.
+ *
+ * @since Java Persistence 3.0
+ */
+public interface GroupingExpression extends Expression<Object> {
+
+    /**
+     * Defines the kinds of grouping expressions.
+     */
+    public static enum Kind {
+
+        /**
+         * Groupings by every prefix of the operands, including
+         * the empty grouping.
+         */
+        ROLLUP,
+
+        /**
+         * Groupings by every subset of the operands.
+         */
+        CUBE,
+
+        /**
+         * Groupings by each of the operands, each of which is an
+         * expression or a grouping set.
+         */
+        GROUPING_SETS,
+
+        /**
+         * A single grouping by all of the operands, used as an
+         * operand of a <code>GROUPING_SETS</code> grouping
+         * expression.  A grouping set with no operands denotes
+         * the grand total.
+         */
+        GROUPING_SET
+    }
+
+    /**
+     * Return the kind of the grouping expression.
+     * @return kind
+     */
+    Kind getKind();
+
+    /**
+     * Return the operands of the grouping expression.
+     * @return list of operands
+     */
+    List<Expression<?>> getOperands();
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+/**
+ * Used as the value of the
+ * <code>jakarta.persistence.criteria.literalHandling</code> property
+ * to specify how the literal values of criteria queries and criteria
+ * update and delete operations are passed to the database.
+ *
+ * <p> Literal values are the values passed to the
+ * <code>literal</code> method of <code>CriteriaBuilder</code>, and the
+ * values passed to the <code>CriteriaBuilder</code>, <code>Expression</code>
+ * and <code>CriteriaUpdate</code> methods that accept an object or
+ * primitive value in place of an expression, such as
+ * <code>equal(Expression, Object)</code>, <code>like(Expression, String)</code>
+ * or <code>gt(Expression, Number)</code>.
+ *
+ * <p> The mode in effect for a criteria object is the mode set by means
+ * of its <code>setLiteralHandlingMode</code> method, if any, or else
+ * the mode of the <code>CriteriaBuilder</code> that created it.
+ * The mode in effect contributes to the {@link CriteriaFingerprint
+ * fingerprint} of the criteria object.
+ *
+ * @see CriteriaBuilder#withLiteralHandlingMode(LiteralHandlingMode)
+ * @see CommonAbstractCriteria#setLiteralHandlingMode(LiteralHandlingMode)
+ *
+ * @since Java Persistence 3.0
+ */
+public enum LiteralHandlingMode {
+
+    /**
+     * Render literal values directly into the generated SQL: this
+     * is the default behavior.  Since the SQL statement depends on
+     * the literal values, they contribute to the
+     * {@link CriteriaFingerprint fingerprint} of the criteria object,
+     * and queries that differ only in their literal values do not
+     * share a translation.
+     */
+    INLINE,
+
+    /**
+     * Pass literal values to the database as bind parameters.
+     * Each literal value is treated as an implicit parameter
+     * expression of the same Java type, so that queries that differ
+     * only in their literal values are translated to the same SQL
+     * statement and have equal fingerprints.
+     * Implicit parameters are bound by the persistence provider;
+     * they are not included in the parameters of the query and
+     * cannot be set by the application.
+     * The persistence provider may render a literal value inline
+     * where the database does not permit a bind parameter; the value
+     * of such a literal then contributes to the fingerprint, so that
+     * queries that differ in its value do not share a translation.
+     */
+    BIND
+}
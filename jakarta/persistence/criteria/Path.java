@@ -46,6 +46,13 @@ public interface Path<X> extends Expression<X> {
     /**
      *  Create a path corresponding to the referenced 
      *  single-valued attribute.
+     *  If the path belongs to a criteria object created by means
+     *  of a {@link CriteriaScope}, the persistence provider may
+     *  return the same path instance for repeated invocations with
+     *  the same attribute, and applications must not rely on whether
+     *  the returned path is a new or shared instance; a shared path
+     *  is immutable, and its <code>alias</code> method returns a new
+     *  selection item.  Otherwise, a new path is returned.
      *  @param attribute single-valued attribute
      *  @return path corresponding to the referenced attribute
      */
@@ -31,7 +31,11 @@ public interface Selection<X> extends TupleElement<X> {
     /**
      * Assigns an alias to the selection item.
      * Once assigned, an alias cannot be changed or reassigned.
-     * Returns the same selection item.
+     * Returns the same selection item, except when the selection
+     * item is a path shared by the persistence provider within a
+     * {@link CriteriaScope}, in which case a new selection item with
+     * the given alias is returned, and the result of this method
+     * must be used in place of the path.
      * @param name  alias
      * @return selection item 
      */
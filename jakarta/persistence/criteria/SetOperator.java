@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+/**
+ * Defines the set operators by which the results of queries are
+ * combined into the result of a compound query.
+ *
+ * @see CompoundQuery
+ * @see CompoundSubquery
+ *
+ * @since Java Persistence 3.0
+ */
+public enum SetOperator {
+
+    /**
+     * Results of either operand, with duplicates eliminated.
+     */
+    UNION,
+
+    /**
+     * Results of either operand, with duplicates retained.
+     */
+    UNION_ALL,
+
+    /**
+     * Results of both operands, with duplicates eliminated.
+     */
+    INTERSECT,
+
+    /**
+     * Results of the left operand that are not results of the
+     * right operand, with duplicates eliminated.
+     */
+    EXCEPT
+}
@@ -28,7 +28,7 @@ import java.util.Set;
  *
  * @since Java Persistence 2.0
  */
-public interface Subquery<T> extends AbstractQuery<T>, Expression<T> {
+public interface Subquery<T> extends AbstractQuery<T>, SubquerySelect<T> {
 	
     /**
      * Specify the item that is to be returned as the subquery 
@@ -39,6 +39,44 @@ public interface Subquery<T> extends AbstractQuery<T>, Expression<T> {
      * @return the modified subquery
      */
     Subquery<T> select(Expression<T> expression);
+
+    /**
+     * Specify the selection items of a subquery that is used as a
+     * derived table or as the source query of an insert operation.
+     * Replaces the previously specified selection(s), if any.
+     * Each selection item must be assigned an alias, by which it
+     * is referred to from the derived root or join.
+     * A subquery with more than one selection item may be used only
+     * as the source of a derived root or join, or as the source
+     * query of a <code>CriteriaInsert</code>, whose target
+     * attributes are assigned the selection items in order.
+     * @param selections  selection items
+     * @return the modified subquery
+     * @throws IllegalArgumentException if a selection item has
+     *         no alias or more than one selection item has the
+     *         same alias
+     * @since Java Persistence 3.0
+     */
+    Subquery<T> multiselect(Selection<?>... selections);
+
+    /**
+     * Specify the selection items of a subquery that is used as a
+     * derived table or as the source query of an insert operation.
+     * Replaces the previously specified selection(s), if any.
+     * Each selection item must be assigned an alias, by which it
+     * is referred to from the derived root or join.
+     * A subquery with more than one selection item may be used only
+     * as the source of a derived root or join, or as the source
+     * query of a <code>CriteriaInsert</code>, whose target
+     * attributes are assigned the selection items in order.
+     * @param selectionList  list of selection items
+     * @return the modified subquery
+     * @throws IllegalArgumentException if a selection item has
+     *         no alias or more than one selection item has the
+     *         same alias
+     * @since Java Persistence 3.0
+     */
+    Subquery<T> multiselect(List<Selection<?>> selectionList);
 	
     /**
      * Modify the subquery to restrict the result according
@@ -128,6 +166,83 @@ public interface Subquery<T> extends AbstractQuery<T>, Expression<T> {
      * @return the modified subquery.
      */
     Subquery<T> distinct(boolean distinct);
+
+    /**
+     * Specify the ordering expressions that are used to
+     * order the subquery results.  An ordering is only significant
+     * in combination with a limit or offset.
+     * Replaces the previous ordering expressions, if any.
+     * If no ordering expressions are specified, the previous
+     * ordering, if any, is simply removed.
+     * @param o  zero or more ordering expressions
+     * @return the modified subquery
+     * @since Java Persistence 3.0
+     */
+    Subquery<T> orderBy(Order... o);
+
+    /**
+     * Specify the ordering expressions that are used to
+     * order the subquery results.  An ordering is only significant
+     * in combination with a limit or offset.
+     * Replaces the previous ordering expressions, if any.
+     * If no ordering expressions are specified, the previous
+     * ordering, if any, is simply removed.
+     * @param o  list of zero or more ordering expressions
+     * @return the modified subquery
+     * @since Java Persistence 3.0
+     */
+    Subquery<T> orderBy(List<Order> o);
+
+    /**
+     * Return the ordering expressions in order of precedence.
+     * Returns empty list if no ordering expressions have been
+     * specified.
+     * Modifications to the list do not affect the subquery.
+     * @return the list of ordering expressions
+     * @since Java Persistence 3.0
+     */
+    List<Order> getOrderList();
+
+    /**
+     * Set the maximum number of results of the subquery.
+     * Replaces the previous limit, if any.
+     * This method only overrides the return type of the 
+     * corresponding <code>AbstractQuery</code> method.
+     * @param maxResults  maximum number of results
+     * @return the modified subquery
+     * @throws IllegalArgumentException if the argument is negative
+     * @since Java Persistence 3.0
+     */
+    Subquery<T> limit(int maxResults);
+
+    /**
+     * Set the maximum number of results of the subquery, including
+     * in addition any further results that are equal to the last 
+     * of them according to the ordering of the subquery.
+     * Replaces the previous limit, if any.
+     * This method only overrides the return type of the 
+     * corresponding <code>AbstractQuery</code> method.
+     * @param maxResults  maximum number of results, not counting ties
+     * @return the modified subquery
+     * @throws IllegalArgumentException if the argument is negative
+     * @throws IllegalStateException if the subquery has no ordering
+     *         when it is executed
+     * @since Java Persistence 3.0
+     */
+    Subquery<T> limitWithTies(int maxResults);
+
+    /**
+     * Set the position of the first result of the subquery to be
+     * returned, numbered from 0.
+     * Replaces the previous offset, if any.
+     * This method only overrides the return type of the 
+     * corresponding <code>AbstractQuery</code> method.
+     * @param firstResult  position of the first result
+     * @return the modified subquery
+     * @throws IllegalArgumentException if the argument is negative
+     * @since Java Persistence 3.0
+     */
+    Subquery<T> offset(int firstResult);
 	
     /**
      * Create a subquery root correlated to a root of the 
@@ -194,7 +309,9 @@ public interface Subquery<T> extends AbstractQuery<T>, Expression<T> {
     CommonAbstractCriteria getContainingQuery();
 	
     /**
-     * Return the selection expression.
+     * Return the selection expression, or null if the selection
+     * items have been specified by means of the
+     * <code>multiselect</code> method.
      * @return the item to be returned in the subquery result
      */
     Expression<T> getSelection();
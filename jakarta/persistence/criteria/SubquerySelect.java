@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+/**
+ * The <code>SubquerySelect</code> interface is the common supertype of
+ * the criteria objects that define a query used as an expression
+ * within another query: a <code>Subquery</code>, or a
+ * <code>CompoundSubquery</code> combining the results of other
+ * subqueries.
+ * It is not intended to be used directly in query construction.
+ *
+ * @param <T>  the type of the selection item
+ *
+ * @since Java Persistence 3.0
+ */
+public interface SubquerySelect<T> extends Expression<T> {
+
+    /**
+     * Return the result type of the subquery.
+     * @return result type
+     */
+    Class<T> getResultType();
+}
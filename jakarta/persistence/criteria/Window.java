@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.criteria;
+
+import java.util.List;
+
+/**
+ * The <code>Window</code> interface defines the window over which a
+ * window function is computed: the partitioning of the query result,
+ * the ordering of the rows within each partition, and the frame of
+ * rows, relative to the current row, to which the function is applied.
+ *
+ * <p> A window is created by means of the <code>createWindow</code>
+ * method of <code>CriteriaBuilder</code>, and is used with the
+ * <code>over</code> method and the ranking and offset functions
+ * of <code>CriteriaBuilder</code>.  For example, a running total
+ * of the order amounts per customer is computed by:
+ *
+ * <pre>
+ *     Window w = cb.createWindow()
+ *             .partitionBy(order.get(Order_.customer))
+ *             .orderBy(cb.asc(order.get(Order_.date)))
+ *             .rows(Window.UNBOUNDED_PRECEDING, Window.CURRENT_ROW);
+ *     q.multiselect(order, cb.over(cb.sum(order.get(Order_.amount)), w));
+ * </pre>
+ *
+ * <p> Window function expressions may only be used in the selection
+ * and in the ordering of a query.
+ *
+ * <p> Frame bounds are specified as offsets relative to the current
+ * row: negative values denote preceding rows (or values, for a
+ * <code>RANGE</code> frame), positive values following ones.
+ *
+ * @since Java Persistence 3.0
+ */
+public interface Window {
+
+    /**
+     * Frame bound denoting the first row of the partition.
+     */
+    long UNBOUNDED_PRECEDING = Long.MIN_VALUE;
+
+    /**
+     * Frame bound denoting the current row.
+     */
+    long CURRENT_ROW = 0L;
+
+    /**
+     * Frame bound denoting the last row of the partition.
+     */
+    long UNBOUNDED_FOLLOWING = Long.MAX_VALUE;
+
+    /**
+     * Defines the unit in which the bounds of a window frame are
+     * expressed.
+     */
+    public static enum FrameType {
+
+        /**
+         * The bounds are a number of rows before or after the
+         * current row.
+         */
+        ROWS,
+
+        /**
+         * The bounds are a difference between the value of the
+         * single ordering expression of the window and its value
+         * for the current row.
+         */
+        RANGE
+    }
+
+    /**
+     * Specify the expressions that are used to partition the
+     * query result.
+     * Replaces the previous partitioning expressions, if any.
+     * If no partitioning expressions are specified, the query
+     * result forms a single partition.
+     * @param partitions  zero or more partitioning expressions
+     * @return the modified window
+     */
+    Window partitionBy(Expression<?>... partitions);
+
+    /**
+     * Specify the expressions that are used to partition the
+     * query result.
+     * Replaces the previous partitioning expressions, if any.
+     * If no partitioning expressions are specified, the query
+     * result forms a single partition.
+     * @param partitions  list of zero or more partitioning expressions
+     * @return the modified window
+     */
+    Window partitionBy(List<Expression<?>> partitions);
+
+    /**
+     * Specify the ordering of the rows within each partition.
+     * Replaces the previous ordering expressions, if any.
+     * @param o  zero or more ordering expressions
+     * @return the modified window
+     */
+    Window orderBy(Order... o);
+
+    /**
+     * Specify the ordering of the rows within each partition.
+     * Replaces the previous ordering expressions, if any.
+     * @param o  list of zero or more ordering expressions
+     * @return the modified window
+     */
+    Window orderBy(List<Order> o);
+
+    /**
+     * Specify a frame of rows relative to the current row.
+     * Replaces the previous frame, if any.
+     * @param start  offset of the first row of the frame
+     * @param end  offset of the last row of the frame
+     * @return the modified window
+     * @throws IllegalArgumentException if start is greater than end
+     */
+    Window rows(long start, long end);
+
+    /**
+     * Specify a frame of rows whose ordering value lies within the
+     * given range of the ordering value of the current row.
+     * Replaces the previous frame, if any.
+     * @param start  offset of the start of the range
+     * @param end  offset of the end of the range
+     * @return the modified window
+     * @throws IllegalArgumentException if start is greater than end
+     * @throws IllegalStateException if the window does not have
+     *         exactly one ordering expression and either bound is
+     *         neither unbounded nor the current row
+     */
+    Window range(long start, long end);
+
+    /**
+     * Return the partitioning expressions.  Returns empty list if
+     * no partitioning expressions have been specified.
+     * Modifications to the list do not affect the window.
+     * @return the list of partitioning expressions
+     */
+    List<Expression<?>> getPartitionList();
+
+    /**
+     * Return the ordering expressions in order of precedence.
+     * Returns empty list if no ordering expressions have been
+     * specified.
+     * Modifications to the list do not affect the window.
+     * @return the list of ordering expressions
+     */
+    List<Order> getOrderList();
+
+    /**
+     * Return the unit of the frame bounds, or null if no frame has
+     * been specified, in which case the database default frame applies.
+     * @return frame type
+     */
+    FrameType getFrameType();
+
+    /**
+     * Return the offset of the start of the frame.
+     * @return frame start
+     */
+    long getFrameStart();
+
+    /**
+     * Return the offset of the end of the frame.
+     * @return frame end
+     */
+    long getFrameEnd();
+}
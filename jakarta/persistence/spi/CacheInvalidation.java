@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.spi;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable batch of second-level cache invalidations, exchanged
+ * between the entity manager factories of several nodes by means of a
+ * {@link CacheInvalidationTransport}.
+ *
+ * <p> The persistence provider coalesces the invalidations caused by
+ * a transaction into a single batch, which it publishes when the
+ * transaction commits: each entity instance appears at most once, and
+ * the instances of an entity whose whole region is invalidated are
+ * omitted.  Entities are identified by entity name, so that batches
+ * can be exchanged between nodes that do not share class loaders.
+ * Primary keys must be serializable.
+ *
+ * <p> A batch names every entity changed by the transaction, including
+ * entities that are not cached themselves, so that the nodes that
+ * receive it can evict the cached query results that reference those
+ * entities.  Applying a batch evicts, in addition to the cached data
+ * of the entity instances and regions it names, the cached query
+ * results that reference the named entities or other entities of
+ * their inheritance hierarchies, and records the invalidation
+ * timestamps of those entities, as described in
+ * {@link jakarta.persistence.Cache}.
+ *
+ * @since Java Persistence 3.0
+ */
+public final class CacheInvalidation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, Set<Object>> primaryKeys;
+
+    private final Set<String> regions;
+
+    private final boolean all;
+
+    private final boolean queryResults;
+
+    /**
+     * Create a batch of invalidations.
+     * @param primaryKeys  map from entity name to the primary keys
+     *        of the instances of that entity to be invalidated
+     * @param regions  names of the entities whose cached data is to
+     *        be invalidated as a whole, for example as the result of
+     *        a bulk update or delete operation
+     * @param all  whether the whole cache, including all cached
+     *        query results, is to be invalidated
+     * @param queryResults  whether all cached query results are to
+     *        be invalidated, as by <code>Cache.evictQueryResults</code>
+     */
+    public CacheInvalidation(Map<String, ? extends Set<?>> primaryKeys, Set<String> regions,
+                             boolean all, boolean queryResults) {
+        Map<String, Set<Object>> keys = new HashMap<String, Set<Object>>();
+        for (Map.Entry<String, ? extends Set<?>> entry : primaryKeys.entrySet()) {
+            if (!regions.contains(entry.getKey()) && !entry.getValue().isEmpty()) {
+                keys.put(entry.getKey(), Collections.unmodifiableSet(new HashSet<Object>(entry.getValue())));
+            }
+        }
+        this.primaryKeys = Collections.unmodifiableMap(keys);
+        this.regions = Collections.unmodifiableSet(new HashSet<String>(regions));
+        this.all = all;
+        this.queryResults = queryResults;
+    }
+
+    /**
+     * Return the primary keys of the entity instances to be
+     * invalidated, by entity name.
+     * @return map from entity name to primary keys
+     */
+    public Map<String, Set<Object>> getPrimaryKeys() {
+        return primaryKeys;
+    }
+
+    /**
+     * Return the names of the entities whose cached data is to be
+     * invalidated as a whole.
+     * @return entity names
+     */
+    public Set<String> getRegions() {
+        return regions;
+    }
+
+    /**
+     * Return whether the whole cache is to be invalidated.
+     * @return boolean indicating whether the whole cache is to be
+     *         invalidated
+     */
+    public boolean isAll() {
+        return all;
+    }
+
+    /**
+     * Return whether all cached query results are to be invalidated.
+     * Cached query results that reference the entities named by the
+     * batch are invalidated even if this method returns false.
+     * @return boolean indicating whether all cached query results
+     *         are to be invalidated
+     */
+    public boolean isQueryResults() {
+        return queryResults;
+    }
+
+    /**
+     * Return whether the batch contains no invalidations.
+     * @return boolean indicating whether the batch is empty
+     */
+    public boolean isEmpty() {
+        return !all && !queryResults && regions.isEmpty() && primaryKeys.isEmpty();
+    }
+
+    public String toString() {
+        return "CacheInvalidation(primaryKeys=" + primaryKeys + ", regions=" + regions + ", all=" + all
+                + ", queryResults=" + queryResults + ")";
+    }
+}
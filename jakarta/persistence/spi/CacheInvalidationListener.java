@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.spi;
+
+/**
+ * A persistence provider supplies an instance of this interface to
+ * the {@link CacheInvalidationTransport#start CacheInvalidationTransport.start}
+ * method. The supplied listener is called with the batches of
+ * invalidations published by the entity manager factories of other
+ * nodes, and evicts the corresponding data, including the cached
+ * query results that reference the affected entities, from the local
+ * second-level cache.
+ *
+ * <p> A received batch is applied to the local cache only.  The
+ * evictions that result from applying it must not be published again
+ * by means of the transport, which would otherwise send batches back
+ * and forth between the nodes indefinitely; in particular, the
+ * listener must not evict data by means of the <code>evict</code>
+ * methods of {@link jakarta.persistence.Cache} if these publish the
+ * evictions, and must not invoke
+ * {@link CacheInvalidationTransport#publish publish}.
+ *
+ * @since Java Persistence 3.0
+ */
+public interface CacheInvalidationListener {
+
+    /**
+     * Invoked when a batch of invalidations has been received from
+     * another node.  The implementation must not block for long, and
+     * must not publish invalidations.
+     * @param invalidation  batch of invalidations
+     */
+    void invalidate(CacheInvalidation invalidation);
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.spi;
+
+/**
+ * Interface implemented by a transport that propagates second-level
+ * cache invalidations between the entity manager factories of the
+ * same persistence unit running on several nodes, so that an update
+ * committed on one node does not leave stale cached data on the others.
+ *
+ * <p> The transport is specified by means of the
+ * <code>jakarta.persistence.cache.invalidationTransport</code> property
+ * of the persistence unit, whose value is either an instance of this
+ * interface or the name of a class implementing it that has a public
+ * no-argument constructor.  The persistence provider starts the
+ * transport when the entity manager factory is created, publishes a
+ * single, coalesced batch of invalidations whenever a transaction that
+ * modified cached data, or an entity referenced by cached query
+ * results, commits, as well as when the <code>evict</code> methods of
+ * {@link jakarta.persistence.Cache} are invoked by the application, and
+ * closes the transport when the entity manager factory is closed.
+ * Invalidations applied on receipt of a batch from another node are
+ * not published again.
+ *
+ * <p> Implementations must be safe for use by multiple concurrent
+ * threads.  Delivery may be asynchronous; a node may therefore read
+ * stale cached data for the time it takes to deliver a batch.
+ *
+ * @see InProcessCacheInvalidationTransport
+ *
+ * @since Java Persistence 3.0
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * Start the transport.
+     * @param persistenceUnitName  name of the persistence unit, 
+     *        which identifies the nodes between which invalidations
+     *        are exchanged
+     * @param listener  listener to be called with the invalidations
+     *        published by other nodes
+     * @throws IllegalArgumentException if an argument is null
+     * @throws IllegalStateException if the transport has already
+     *         been started or has been closed
+     */
+    void start(String persistenceUnitName, CacheInvalidationListener listener);
+
+    /**
+     * Publish a batch of invalidations to the other nodes.
+     * The batch is not delivered to the listener of this transport.
+     * Exceptions thrown by the listeners of other nodes are not
+     * propagated to the caller.
+     * @param invalidation  batch of invalidations
+     * @throws IllegalStateException if the transport has not been
+     *         started or has been closed
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Close the transport.  The listener is not called after this
+     * method returns.  Closing a transport that has already been
+     * closed has no effect.
+     */
+    void close();
+}
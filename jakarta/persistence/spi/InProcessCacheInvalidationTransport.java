@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oracle Corporation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package jakarta.persistence.spi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link CacheInvalidationTransport} that connects the entity manager
+ * factories of a persistence unit within a single Java virtual machine.
+ * It is intended for testing the invalidation behavior of a persistence
+ * provider, by creating several entity manager factories for the same
+ * persistence unit, each with its own instance of this class.
+ *
+ * <p> Transports are connected if they were started for the same
+ * persistence unit name and created for the same channel.  Batches are
+ * delivered synchronously, on the publishing thread, to the listeners
+ * of all other connected transports.  An exception thrown by a
+ * listener does not prevent delivery to the other listeners and is
+ * not propagated to the publishing thread; it is passed to the
+ * uncaught exception handler of that thread instead.  Batches are
+ * delivered to a given listener one at a time.
+ *
+ * <p> As required by {@link CacheInvalidationListener}, a listener must
+ * not publish invalidations.  An attempt to publish from within a
+ * listener fails with an <code>IllegalStateException</code>, which is
+ * handled as any other exception thrown by the listener, rather than
+ * recursing or deadlocking.
+ *
+ * @since Java Persistence 3.0
+ */
+public class InProcessCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final String DEFAULT_CHANNEL = "default";
+
+    private static final Map<String, Set<InProcessCacheInvalidationTransport>> connections =
+            new HashMap<String, Set<InProcessCacheInvalidationTransport>>();
+
+    private static final ThreadLocal<Boolean> delivering = new ThreadLocal<Boolean>();
+
+    private final String channel;
+
+    private final Object lock = new Object();
+
+    private String key;
+
+    private CacheInvalidationListener listener;
+
+    private boolean closed;
+
+    /**
+     * Create a transport for the default channel.
+     */
+    public InProcessCacheInvalidationTransport() {
+        this(DEFAULT_CHANNEL);
+    }
+
+    /**
+     * Create a transport for the given channel.  Transports for
+     * different channels are not connected, which allows independent
+     * groups of entity manager factories in the same virtual machine.
+     * @param channel  channel name
+     */
+    public InProcessCacheInvalidationTransport(String channel) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel must be specified");
+        }
+        this.channel = channel;
+    }
+
+    public void start(String persistenceUnitName, CacheInvalidationListener listener) {
+        if (persistenceUnitName == null) {
+            throw new IllegalArgumentException("Persistence unit name must be specified");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener must be specified");
+        }
+        synchronized (lock) {
+            if (key != null || closed) {
+                throw new IllegalStateException("Transport already started or closed");
+            }
+            this.key = channel + "/" + persistenceUnitName;
+            this.listener = listener;
+            synchronized (connections) {
+                Set<InProcessCacheInvalidationTransport> connected = connections.get(key);
+                if (connected == null) {
+                    connected = new HashSet<InProcessCacheInvalidationTransport>();
+                    connections.put(key, connected);
+                }
+                connected.add(this);
+            }
+        }
+    }
+
+    public void publish(CacheInvalidation invalidation) {
+        if (delivering.get() != null) {
+            throw new IllegalStateException("Invalidations must not be published by a listener");
+        }
+        String currentKey;
+        synchronized (lock) {
+            if (key == null || closed) {
+                throw new IllegalStateException("Transport not started or closed");
+            }
+            currentKey = key;
+        }
+        if (invalidation.isEmpty()) {
+            return;
+        }
+        List<InProcessCacheInvalidationTransport> targets;
+        synchronized (connections) {
+            Set<InProcessCacheInvalidationTransport> connected = connections.get(currentKey);
+            if (connected == null) {
+                return;
+            }
+            targets = new ArrayList<InProcessCacheInvalidationTransport>(connected);
+        }
+        for (InProcessCacheInvalidationTransport target : targets) {
+            if (target != this) {
+                target.deliver(invalidation);
+            }
+        }
+    }
+
+    private void deliver(CacheInvalidation invalidation) {
+        // the lock is held while the listener is called, so that
+        // close() does not return while a delivery is in progress
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            delivering.set(Boolean.TRUE);
+            try {
+                listener.invalidate(invalidation);
+            } catch (RuntimeException e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            } finally {
+                delivering.remove();
+            }
+        }
+    }
+
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            listener = null;
+            if (key == null) {
+                return;
+            }
+            synchronized (connections) {
+                Set<InProcessCacheInvalidationTransport> connected = connections.get(key);
+                if (connected != null) {
+                    connected.remove(this);
+                    if (connected.isEmpty()) {
+                        connections.remove(key);
+                    }
+                }
+            }
+        }
+    }
+}